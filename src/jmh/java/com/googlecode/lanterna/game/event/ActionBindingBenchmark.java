@@ -0,0 +1,76 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.event;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.googlecode.lanterna.input.KeyStroke;
+import com.googlecode.lanterna.input.KeyType;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionBindingBenchmark {
+
+    private final KeyStroke bound = new KeyStroke('w', false, false);
+    private final KeyStroke unbound = new KeyStroke('w', true, false);
+
+    private ActionBinding actionBinding;
+
+    @Setup
+    public void setup() {
+        actionBinding = new ActionBinding();
+        for (char character = 'a'; character <= 'z'; character++) {
+            actionBinding.bind(new KeyStroke(character, false, false), new ActionClass());
+        }
+        for (final KeyType keyType : KeyType.values()) {
+            if (keyType != KeyType.Character) {
+                actionBinding.bind(new KeyStroke(keyType), ActionEnum.EVENT);
+            }
+        }
+    }
+
+    @Benchmark
+    public void resolve(final Blackhole blackhole) {
+        actionBinding.resolve(bound).ifPresent(blackhole::consume);
+        actionBinding.resolve(unbound).ifPresent(blackhole::consume);
+    }
+
+    @Benchmark
+    public void resolveId(final Blackhole blackhole) {
+        blackhole.consume(actionBinding.resolveId(bound));
+        blackhole.consume(actionBinding.resolveId(unbound));
+    }
+
+}
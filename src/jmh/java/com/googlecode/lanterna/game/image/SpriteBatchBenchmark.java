@@ -0,0 +1,89 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.TextColor;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteBatchBenchmark {
+
+    @Param({"100", "1000"})
+    private int sprites;
+
+    private TransparentTextImage[] images;
+    private TerminalPosition[] positions;
+    private PackedTextImage screen;
+    private final SpriteBatch batch = new SpriteBatch();
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final TransparentTextImage image = new TransparentTextImage(new TerminalSize(8, 4));
+        image.setAll(new TextCharacter('#', TextColor.ANSI.RED, TextColor.ANSI.BLUE));
+        image.setCharacterAt(0, 0, new TransparentTextCharacter(' ', TextColor.ANSI.RED));
+        images = new TransparentTextImage[sprites];
+        positions = new TerminalPosition[sprites];
+        for (int sprite = 0; sprite < sprites; sprite++) {
+            images[sprite] = image;
+            positions[sprite] = new TerminalPosition(random.nextInt(80), random.nextInt(24));
+        }
+        screen = new PackedTextImage(new TerminalSize(80, 24));
+    }
+
+    @Benchmark
+    public PackedTextImage drawEach() {
+        for (int sprite = 0; sprite < sprites; sprite++) {
+            images[sprite].drawImageWithTransparency(screen.newTextGraphics(), positions[sprite]);
+        }
+        return screen;
+    }
+
+    @Benchmark
+    public PackedTextImage batch() {
+        for (int sprite = 0; sprite < sprites; sprite++) {
+            batch.submit(images[sprite], positions[sprite], sprite);
+        }
+        batch.flush(screen.newTextGraphics());
+        return screen;
+    }
+
+}
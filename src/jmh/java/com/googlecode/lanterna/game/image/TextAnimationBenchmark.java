@@ -0,0 +1,81 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextAnimationBenchmark {
+
+    private static final float FRAME_TIME = 0.05f;
+
+    @Param({"8", "64", "512"})
+    public int frames;
+
+    private TextAnimation animation;
+
+    @Setup
+    public void setup() throws IOException {
+        final File directory = new ClassPathResource("image/", TextAnimationBenchmark.class)
+                        .getFile().getParentFile();
+        final File definition = new File(directory, "benchmark-animation-" + frames + ".json");
+        try (final Writer writer = new FileWriter(definition)) {
+            writer.write("{\"type\": \"LOOP\", \"frames\": [");
+            for (int frame = 0; frame < frames; frame++) {
+                if (frame != 0) {
+                    writer.write(",");
+                }
+                writer.write("{\"image\": \"image/\", \"time\": " + FRAME_TIME + "}");
+            }
+            writer.write("]}");
+        }
+        animation = TextAnimation.read(new FileSystemResource(definition));
+        animation.start();
+    }
+
+    @Benchmark
+    public TextAnimation update() {
+        animation.update(FRAME_TIME / 3);
+        return animation;
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import com.googlecode.lanterna.game.tools.TextImagePacker;
+import com.googlecode.lanterna.graphics.TextImage;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextImageIOBenchmark {
+
+    @Param({"directory", "zip"})
+    public String source;
+
+    private Resource resource;
+
+    @Setup
+    public void setup() throws IOException {
+        final Resource directory = new ClassPathResource("image/", TextImageIOBenchmark.class);
+        if ("zip".equals(source)) {
+            resource = new FileSystemResource(TextImagePacker.pack(directory.getFile()));
+        } else {
+            resource = directory;
+        }
+    }
+
+    @Benchmark
+    public TextImage read() {
+        return TextImageIO.read(resource);
+    }
+
+}
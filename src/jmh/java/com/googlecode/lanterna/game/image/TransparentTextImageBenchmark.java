@@ -0,0 +1,98 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.TextColor;
+import com.googlecode.lanterna.graphics.BasicTextImage;
+import com.googlecode.lanterna.graphics.TextGraphics;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransparentTextImageBenchmark {
+
+    @Param({"10x5", "80x24", "200x60"})
+    public String size;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double transparency;
+
+    @Param({"basic", "packed"})
+    public String target;
+
+    private TransparentTextImage image;
+    private TextGraphics targetGraphics;
+
+    @Setup
+    public void setup() {
+        final String[] dimensions = size.split("x");
+        final TerminalSize imageSize = new TerminalSize(Integer.parseInt(dimensions[0]),
+                        Integer.parseInt(dimensions[1]));
+        final Random random = new Random(1984);
+        image = new TransparentTextImage(imageSize);
+        for (int row = 0; row < imageSize.getRows(); row++) {
+            for (int column = 0; column < imageSize.getColumns(); column++) {
+                final TextColor foreground = new TextColor.RGB(random.nextInt(256),
+                                random.nextInt(256), random.nextInt(256));
+                final TextCharacter character;
+                if (random.nextDouble() < transparency) {
+                    character = new TransparentTextCharacter('#', foreground);
+                } else {
+                    character = new TextCharacter('#', foreground, new TextColor.RGB(
+                                    random.nextInt(256), random.nextInt(256),
+                                    random.nextInt(256)));
+                }
+                image.setCharacterAt(column, row, character);
+            }
+        }
+        if ("packed".equals(target)) {
+            targetGraphics = new PackedTextImage(imageSize).newTextGraphics();
+        } else {
+            targetGraphics = new BasicTextImage(imageSize).newTextGraphics();
+        }
+    }
+
+    @Benchmark
+    public TextGraphics drawImageWithTransparency() {
+        image.drawImageWithTransparency(targetGraphics, TerminalPosition.TOP_LEFT_CORNER);
+        return targetGraphics;
+    }
+
+}
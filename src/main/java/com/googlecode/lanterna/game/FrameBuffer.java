@@ -0,0 +1,158 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+import java.io.IOException;
+
+import com.googlecode.lanterna.SGR;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.game.image.PackedTextImage;
+import com.googlecode.lanterna.game.image.TextCells;
+import com.googlecode.lanterna.graphics.TextGraphics;
+import com.googlecode.lanterna.graphics.TextImage;
+import com.googlecode.lanterna.terminal.Terminal;
+
+/**
+ * Back buffer for a {@link Terminal}. Frames are rendered into the back buffer and {@link #flush()}
+ * only sends the cells that differ from the previously flushed frame.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class FrameBuffer {
+
+    private static final int UNKNOWN = -1;
+
+    private final Terminal terminal;
+    private final PackedTextImage backBuffer;
+    private final PackedTextImage frontBuffer;
+
+    private boolean fullRepaint = true;
+    private volatile int cellsWritten;
+
+    private int foregroundColor;
+    private int backgroundColor;
+    private int modifiers;
+
+    public FrameBuffer(final Terminal terminal, final TerminalSize size) {
+        this.terminal = terminal;
+        backBuffer = new PackedTextImage(size);
+        frontBuffer = new PackedTextImage(size);
+    }
+
+    public TerminalSize getSize() {
+        return backBuffer.getSize();
+    }
+
+    public TextGraphics newTextGraphics() {
+        return backBuffer.newTextGraphics();
+    }
+
+    public void clear() {
+        backBuffer.setAll(TextCharacter.DEFAULT_CHARACTER);
+    }
+
+    /**
+     * Sends every cell with the next {@link #flush()}, regardless whether it has changed.
+     */
+    public void requestFullRepaint() {
+        fullRepaint = true;
+    }
+
+    /**
+     * @return the number of cells sent to the terminal by the last {@link #flush()}
+     */
+    public int getCellsWritten() {
+        return cellsWritten;
+    }
+
+    public void flush() throws IOException {
+        flush(backBuffer);
+    }
+
+    /**
+     * Sends the cells of the given frame that differ from the previously flushed frame. The frame
+     * must have the size of this buffer.
+     */
+    public void flush(final TextImage frame) throws IOException {
+        final boolean repaintAll = fullRepaint;
+        fullRepaint = false;
+        int written = 0;
+        if (repaintAll) {
+            terminal.resetColorAndSGR();
+            foregroundColor = UNKNOWN;
+            backgroundColor = UNKNOWN;
+            modifiers = 0;
+        }
+        final PackedTextImage packedFrame =
+                        frame instanceof PackedTextImage ? (PackedTextImage) frame : null;
+        final int rows = frontBuffer.getRows();
+        final int columns = frontBuffer.getColumns();
+        for (int row = 0; row < rows; row++) {
+            int cursorColumn = -1;
+            for (int column = 0; column < columns; column++) {
+                final int glyph;
+                final long colors;
+                if (packedFrame != null) {
+                    glyph = packedFrame.getGlyph(column, row) & ~TextCells.TRANSPARENT;
+                    colors = packedFrame.getColors(column, row);
+                } else {
+                    final TextCharacter character = frame.getCharacterAt(column, row);
+                    glyph = TextCells.encodeGlyph(character) & ~TextCells.TRANSPARENT;
+                    colors = TextCells.encodeColors(character);
+                }
+                if (!repaintAll && glyph == frontBuffer.getGlyph(column, row)
+                                && colors == frontBuffer.getColors(column, row)) {
+                    continue;
+                }
+                if (cursorColumn != column) {
+                    terminal.setCursorPosition(column, row);
+                }
+                write(glyph, colors);
+                frontBuffer.setCell(column, row, glyph, colors);
+                cursorColumn = column + 1;
+                written++;
+            }
+        }
+        cellsWritten = written;
+        terminal.flush();
+    }
+
+    private void write(final int glyph, final long colors) throws IOException {
+        final int glyphModifiers = TextCells.modifierBits(glyph);
+        if (glyphModifiers != modifiers) {
+            terminal.resetColorAndSGR();
+            foregroundColor = UNKNOWN;
+            backgroundColor = UNKNOWN;
+            for (final SGR modifier : TextCells.modifiers(glyph)) {
+                terminal.enableSGR(modifier);
+            }
+            modifiers = glyphModifiers;
+        }
+        final int foreground = TextCells.foreground(colors);
+        if (foreground != foregroundColor) {
+            foregroundColor = foreground;
+            terminal.setForegroundColor(TextCells.decodeColor(foreground));
+        }
+        final int background = TextCells.background(colors);
+        if (background != backgroundColor) {
+            backgroundColor = background;
+            terminal.setBackgroundColor(TextCells.decodeColor(background));
+        }
+        terminal.putCharacter(TextCells.character(glyph));
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+/**
+ * Decides how a {@link TerminalGame} catches up when {@link Update} and {@link Render} take longer
+ * than the frame budget. Regardless of the policy, the time of a single frame is capped at the
+ * configured maximum elapsed time first.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public enum FramePacing {
+
+    /**
+     * Runs every pending update step before the next render.
+     */
+    CLAMP {
+
+        @Override
+        int steps(final int pending, final int maxSkip) {
+            return pending;
+        }
+
+    },
+
+    /**
+     * Runs up to {@code maxSkip} additional update steps without rendering in between and drops
+     * the remaining ones.
+     */
+    CATCH_UP {
+
+        @Override
+        int steps(final int pending, final int maxSkip) {
+            return Math.min(pending, 1 + maxSkip);
+        }
+
+    },
+
+    /**
+     * Runs at most one update step per render and drops all others.
+     */
+    DROP {
+
+        @Override
+        int steps(final int pending, final int maxSkip) {
+            return Math.min(pending, 1);
+        }
+
+    },
+
+    ;
+
+    abstract int steps(int pending, int maxSkip);
+
+}
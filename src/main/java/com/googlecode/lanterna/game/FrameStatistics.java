@@ -0,0 +1,109 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+/**
+ * Nanosecond timings of the phases of every frame run by a {@link TerminalGame}.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class FrameStatistics {
+
+    private final Histogram[] phases = new Histogram[Phase.values().length];
+    private final Histogram frames = new Histogram();
+
+    private volatile long framesOverBudget;
+    private volatile long skippedFrames;
+    private volatile long droppedUpdates;
+
+    FrameStatistics() {
+        for (int index = 0; index < phases.length; index++) {
+            phases[index] = new Histogram();
+        }
+    }
+
+    public Histogram getHistogram(final Phase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * @return timings of whole frames, without the time spent waiting for the next frame
+     */
+    public Histogram getFrameHistogram() {
+        return frames;
+    }
+
+    public long getFramesOverBudget() {
+        return framesOverBudget;
+    }
+
+    /**
+     * @return the number of frames not rendered because update steps were run to catch up
+     */
+    public long getSkippedFrames() {
+        return skippedFrames;
+    }
+
+    /**
+     * @return the number of update steps dropped by the {@link FramePacing}
+     */
+    public long getDroppedUpdates() {
+        return droppedUpdates;
+    }
+
+    public void reset() {
+        for (final Histogram phase : phases) {
+            phase.reset();
+        }
+        frames.reset();
+        framesOverBudget = 0;
+        skippedFrames = 0;
+        droppedUpdates = 0;
+    }
+
+    void record(final Phase phase, final long nanos) {
+        phases[phase.ordinal()].record(nanos);
+    }
+
+    void recordFrame(final long nanos, final long budget) {
+        frames.record(nanos);
+        if (nanos > budget) {
+            framesOverBudget++;
+        }
+    }
+
+    void recordPacing(final int steps, final int dropped) {
+        if (steps > 1) {
+            skippedFrames += steps - 1;
+        }
+        droppedUpdates += dropped;
+    }
+
+    public enum Phase {
+
+        INPUT,
+
+        UPDATE,
+
+        CLEAR,
+
+        RENDER,
+
+        FLUSH,
+
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+import com.googlecode.lanterna.TextColor;
+import com.googlecode.lanterna.game.FrameStatistics.Phase;
+import com.googlecode.lanterna.graphics.TextGraphics;
+
+/**
+ * Draws the {@link FrameStatistics} of a game as a table of p50/p99/max timings in microseconds.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class FrameStatisticsOverlay implements Render {
+
+    private static final String FORMAT = "%-6s %7d %7d %7d";
+
+    private final FrameStatistics statistics;
+
+    public FrameStatisticsOverlay(final FrameStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void render(final TextGraphics textGraphics) {
+        textGraphics.setForegroundColor(TextColor.ANSI.WHITE);
+        textGraphics.setBackgroundColor(TextColor.ANSI.BLACK);
+        textGraphics.putString(0, 0, String.format("%-6s %7s %7s %7s", "us", "p50", "p99", "max"));
+        int row = 1;
+        for (final Phase phase : Phase.values()) {
+            textGraphics.putString(0, row++, line(phase.name().toLowerCase(),
+                            statistics.getHistogram(phase)));
+        }
+        textGraphics.putString(0, row++, line("frame", statistics.getFrameHistogram()));
+        textGraphics.putString(0, row++, count("late", statistics.getFramesOverBudget()));
+        textGraphics.putString(0, row++, count("skip", statistics.getSkippedFrames()));
+        textGraphics.putString(0, row, count("drop", statistics.getDroppedUpdates()));
+    }
+
+    private static String count(final String name, final long count) {
+        return String.format("%-6s %7d", name, count);
+    }
+
+    private static String line(final String name, final Histogram histogram) {
+        return String.format(FORMAT, name, histogram.getPercentile(50) / 1000,
+                        histogram.getPercentile(99) / 1000, histogram.getMax() / 1000);
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.terminal.Terminal;
+import com.googlecode.lanterna.terminal.TerminalFactory;
+import com.googlecode.lanterna.terminal.virtual.DefaultVirtualTerminal;
+
+/**
+ * Creates in-memory terminals without any I/O or display, e.g. for servers, tests and
+ * benchmarks. Input can be injected with {@link DefaultVirtualTerminal#addInput}.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class HeadlessTerminalFactory implements TerminalFactory {
+
+    private final TerminalSize size;
+
+    public HeadlessTerminalFactory(final TerminalSize size) {
+        this.size = size;
+    }
+
+    @Override
+    public DefaultVirtualTerminal createTerminal() {
+        final DefaultVirtualTerminal terminal = new DefaultVirtualTerminal(size);
+        terminal.setBacklogSize(0);
+        return terminal;
+    }
+
+}
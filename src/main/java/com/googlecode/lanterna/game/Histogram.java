@@ -0,0 +1,106 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+/**
+ * Log-linear histogram of non-negative {@code long} values, e.g. durations in nanoseconds. Every
+ * power of two is split into {@value #SUB_BUCKETS} buckets, so reported percentiles are within
+ * about 6% of the recorded values. Recording neither allocates nor locks, it is meant to be
+ * written by a single thread; readers on other threads may observe slightly stale values.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[(Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+
+    private volatile long count;
+    private volatile long max;
+    private volatile long total;
+
+    public void record(final long value) {
+        final long clamped = Math.max(value, 0);
+        counts[index(clamped)]++;
+        total += clamped;
+        if (clamped > max) {
+            max = clamped;
+        }
+        count++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        final long count = this.count;
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the upper bound of the bucket containing the given percentile
+     */
+    public long getPercentile(final double percentile) {
+        final long count = this.count;
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seen += counts[index];
+            if (seen >= rank) {
+                return Math.min(upperBound(index), max);
+            }
+        }
+        return max;
+    }
+
+    public void reset() {
+        count = 0;
+        max = 0;
+        total = 0;
+        for (int index = 0; index < counts.length; index++) {
+            counts[index] = 0;
+        }
+    }
+
+    private static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long upperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+
+/**
+ * Immutable rectangle of cells.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public final class Rectangle {
+
+    private final int column;
+    private final int row;
+    private final int columns;
+    private final int rows;
+
+    public Rectangle(final int column, final int row, final int columns, final int rows) {
+        this.column = column;
+        this.row = row;
+        this.columns = Math.max(columns, 0);
+        this.rows = Math.max(rows, 0);
+    }
+
+    public Rectangle(final TerminalPosition position, final TerminalSize size) {
+        this(position.getColumn(), position.getRow(), size.getColumns(), size.getRows());
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public TerminalPosition getPosition() {
+        return new TerminalPosition(column, row);
+    }
+
+    public TerminalSize getSize() {
+        return new TerminalSize(columns, rows);
+    }
+
+    public boolean isEmpty() {
+        return columns == 0 || rows == 0;
+    }
+
+    public boolean intersects(final Rectangle other) {
+        return !isEmpty() && !other.isEmpty() //
+                        && column < other.column + other.columns
+                        && other.column < column + columns //
+                        && row < other.row + other.rows //
+                        && other.row < row + rows;
+    }
+
+    /**
+     * @return the overlapping part of both rectangles, empty if they do not intersect
+     */
+    public Rectangle intersection(final Rectangle other) {
+        final int fromColumn = Math.max(column, other.column);
+        final int fromRow = Math.max(row, other.row);
+        final int untilColumn = Math.min(column + columns, other.column + other.columns);
+        final int untilRow = Math.min(row + rows, other.row + other.rows);
+        return new Rectangle(fromColumn, fromRow, untilColumn - fromColumn, untilRow - fromRow);
+    }
+
+    /**
+     * @return the smallest rectangle containing both rectangles, empty ones are ignored
+     */
+    public Rectangle union(final Rectangle other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        final int fromColumn = Math.min(column, other.column);
+        final int fromRow = Math.min(row, other.row);
+        final int untilColumn = Math.max(column + columns, other.column + other.columns);
+        final int untilRow = Math.max(row + rows, other.row + other.rows);
+        return new Rectangle(fromColumn, fromRow, untilColumn - fromColumn, untilRow - fromRow);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof Rectangle)) {
+            return false;
+        }
+        final Rectangle other = (Rectangle) object;
+        return column == other.column && row == other.row && columns == other.columns
+                        && rows == other.rows;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((column * 31 + row) * 31 + columns) * 31 + rows;
+    }
+
+    @Override
+    public String toString() {
+        return "Rectangle{column=" + column + ", row=" + row + ", columns=" + columns + ", rows="
+                        + rows + "}";
+    }
+
+}
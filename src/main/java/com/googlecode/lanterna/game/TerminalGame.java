@@ -18,18 +18,27 @@ import java.awt.Font;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.io.IOException;
-
-import javax.swing.Timer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.game.FrameStatistics.Phase;
 import com.googlecode.lanterna.game.event.ActionBinding;
+import com.googlecode.lanterna.game.event.ActionHandler;
 import com.googlecode.lanterna.game.event.Event;
 import com.googlecode.lanterna.game.event.GameEvent;
 import com.googlecode.lanterna.game.event.Handler;
+import com.googlecode.lanterna.game.image.PackedTextImage;
+import com.googlecode.lanterna.game.input.InputCollector;
+import com.googlecode.lanterna.game.input.InputRing;
+import com.googlecode.lanterna.game.input.KeyState;
 import com.googlecode.lanterna.graphics.TextGraphics;
+import com.googlecode.lanterna.graphics.TextImage;
 import com.googlecode.lanterna.input.KeyStroke;
 import com.googlecode.lanterna.terminal.DefaultTerminalFactory;
 import com.googlecode.lanterna.terminal.Terminal;
+import com.googlecode.lanterna.terminal.TerminalFactory;
 import com.googlecode.lanterna.terminal.swing.AWTTerminalFontConfiguration;
 import com.googlecode.lanterna.terminal.swing.SwingTerminalFontConfiguration;
 import com.googlecode.lanterna.terminal.swing.SwingTerminalFrame;
@@ -40,19 +49,45 @@ import com.googlecode.lanterna.terminal.swing.SwingTerminalFrame;
  */
 public class TerminalGame {
 
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long PRESENT_IDLE_NANOS = NANOS_PER_SECOND / 1000;
+    private static final int INPUT_CAPACITY = 256;
+
     private final int columns;
     private final int rows;
     private final String title;
+    private final FrameStatistics statistics = new FrameStatistics();
+    private final KeyState keyState = new KeyState();
 
     private Terminal terminal;
-    private Timer timer;
+    private FrameBuffer frameBuffer;
+    private TripleBuffer<TextImage> frames;
+    private InputRing inputRing;
+    private InputCollector inputCollector;
+    private Thread loopThread;
+    private Thread presentThread;
+    private volatile boolean running;
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private long accumulator;
+    private long previousTime;
 
     private Update update;
     private Render render;
     private Handler handler;
+    private ActionHandler actionHandler;
     private ActionBinding actionBinding;
+    private TerminalFactory terminalFactory;
     private Font font;
     private int fontSize = 28;
+    private int fpsLimit = 60;
+    private int updateRate = 60;
+    private FramePacing framePacing = FramePacing.CLAMP;
+    private long maxFrameNanos = NANOS_PER_SECOND / 4;
+    private int maxSkip = 5;
+    private boolean fullRepaint = false;
+    private boolean decoupled = false;
+    private boolean backgroundInput = false;
+    private Render statisticsOverlay;
 
     public TerminalGame(final String title, final int columns, final int rows) {
         this.title = title;
@@ -76,6 +111,33 @@ public class TerminalGame {
         return this;
     }
 
+    /**
+     * Dispatches resolved actions by id. Unlike {@link Handler}s this never allocates for an input.
+     */
+    public TerminalGame actionHandler(final ActionHandler actionHandler,
+                    final ActionBinding actionBinding) {
+        this.actionHandler = actionHandler;
+        this.actionBinding = actionBinding;
+        return this;
+    }
+
+    /**
+     * Uses the given factory instead of a Swing terminal emulator. Font settings are ignored then.
+     */
+    public TerminalGame terminalFactory(final TerminalFactory terminalFactory) {
+        this.terminalFactory = terminalFactory;
+        return this;
+    }
+
+    /**
+     * Runs the game on an in-memory terminal without any display.
+     *
+     * @see HeadlessTerminalFactory
+     */
+    public TerminalGame headless() {
+        return terminalFactory(new HeadlessTerminalFactory(new TerminalSize(columns, rows)));
+    }
+
     public TerminalGame font(final Font font) {
         this.font = font;
         return this;
@@ -86,22 +148,151 @@ public class TerminalGame {
         return this;
     }
 
+    /**
+     * Limits the number of rendered frames per second. A value of zero or less disables the limit.
+     */
+    public TerminalGame fpsLimit(final int fpsLimit) {
+        this.fpsLimit = fpsLimit;
+        return this;
+    }
+
+    /**
+     * Sets the number of fixed-length {@link Update} steps per second.
+     */
+    public TerminalGame updateRate(final int updateRate) {
+        if (updateRate <= 0) {
+            throw new IllegalArgumentException(
+                            String.format("Update rate %d is not positive.", updateRate));
+        }
+        this.updateRate = updateRate;
+        return this;
+    }
+
+    /**
+     * Sets the policy for catching up when frames take longer than their budget, defaults to
+     * {@link FramePacing#CLAMP}.
+     */
+    public TerminalGame framePacing(final FramePacing framePacing) {
+        this.framePacing = framePacing;
+        return this;
+    }
+
+    /**
+     * Caps the time in seconds a single frame may advance the simulation, defaults to 0.25.
+     */
+    public TerminalGame maxElapsed(final float maxElapsed) {
+        if (!(maxElapsed > 0)) {
+            throw new IllegalArgumentException(
+                            String.format("Maximum elapsed time %f is not positive.", maxElapsed));
+        }
+        maxFrameNanos = (long) (maxElapsed * NANOS_PER_SECOND);
+        return this;
+    }
+
+    /**
+     * Sets the number of update steps {@link FramePacing#CATCH_UP} may run without rendering,
+     * defaults to 5.
+     */
+    public TerminalGame maxSkip(final int maxSkip) {
+        if (maxSkip < 0) {
+            throw new IllegalArgumentException(
+                            String.format("Maximum skip %d is negative.", maxSkip));
+        }
+        this.maxSkip = maxSkip;
+        return this;
+    }
+
+    /**
+     * Sends every cell to the terminal each frame instead of only the changed ones.
+     */
+    public TerminalGame fullRepaint(final boolean fullRepaint) {
+        this.fullRepaint = fullRepaint;
+        return this;
+    }
+
+    /**
+     * Runs input, {@link Update} and {@link Render} on the game thread while a separate thread
+     * presents the rendered frames to the terminal. The threads exchange frames through a
+     * {@link TripleBuffer}, so a slow terminal never holds back the simulation.
+     */
+    public TerminalGame decoupled(final boolean decoupled) {
+        this.decoupled = decoupled;
+        return this;
+    }
+
+    /**
+     * Collects input on a separate thread instead of polling the terminal once per frame.
+     */
+    public TerminalGame backgroundInput(final boolean backgroundInput) {
+        this.backgroundInput = backgroundInput;
+        return this;
+    }
+
+    /**
+     * @return the keys held at the start of the current frame, to be queried from {@link Update}
+     *         and {@link Render} only
+     */
+    public KeyState getKeyState() {
+        return keyState;
+    }
+
+    /**
+     * Draws the {@link FrameStatistics} on top of every rendered frame.
+     */
+    public TerminalGame statisticsOverlay(final boolean statisticsOverlay) {
+        this.statisticsOverlay = statisticsOverlay ? new FrameStatisticsOverlay(statistics) : null;
+        return this;
+    }
+
+    public FrameStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return the number of cells sent to the terminal with the last frame
+     */
+    public int getCellsWritten() {
+        return frameBuffer == null ? 0 : frameBuffer.getCellsWritten();
+    }
+
     public void launch() {
         try {
-            Thread.currentThread().setName(title);
             terminal = initializeTerminal();
+            frameBuffer = new FrameBuffer(terminal, terminal.getTerminalSize());
             dispatch(GameEvent.INITIALIZE);
-            gameLoop();
+            running = true;
+            if (backgroundInput) {
+                inputRing = new InputRing(INPUT_CAPACITY);
+                inputCollector = new InputCollector(terminal, inputRing);
+                inputCollector.start(title + " input");
+            }
+            if (decoupled) {
+                final TerminalSize size = frameBuffer.getSize();
+                frames = new TripleBuffer<>(() -> new PackedTextImage(size));
+                presentThread = new Thread(() -> runLoop(this::presentationLoop),
+                                title + " presentation");
+                presentThread.start();
+                loopThread = new Thread(() -> runLoop(this::simulationLoop), title);
+            } else {
+                loopThread = new Thread(() -> runLoop(this::gameLoop), title);
+            }
+            loopThread.start();
         } catch (final Exception exception) {
             throw new RuntimeException(exception);
         }
     }
 
+    /**
+     * Stops the game and closes the terminal. Only the first call shuts down, including the one
+     * made when the game loop fails.
+     */
     public void finish(final boolean exitVm) {
         try {
-            timer.stop();
-            dispatch(GameEvent.FINALIZE);
-            terminal.close();
+            if (finished.compareAndSet(false, true)) {
+                stopLoop();
+                dispatch(GameEvent.FINALIZE);
+                terminal.close();
+            }
             if (exitVm) {
                 System.exit(0);
             }
@@ -111,64 +302,181 @@ public class TerminalGame {
     }
 
     private void clearScreen() {
+        frameBuffer.clear();
+    }
+
+    private void flush() {
         try {
-            terminal.clearScreen();
+            if (fullRepaint) {
+                frameBuffer.requestFullRepaint();
+            }
+            frameBuffer.flush();
         } catch (final IOException exception) {
             throw new RuntimeException(exception);
         }
     }
 
-    private void flush() {
+    private void present(final TextImage frame) {
         try {
-            terminal.flush();
+            if (fullRepaint) {
+                frameBuffer.requestFullRepaint();
+            }
+            frameBuffer.flush(frame);
         } catch (final IOException exception) {
             throw new RuntimeException(exception);
         }
     }
 
-    private float frameTime(final long currentTime) {
-        return (System.currentTimeMillis() - currentTime) / 1000f;
+    private void stopLoop() {
+        running = false;
+        if (inputCollector != null) {
+            inputCollector.stop();
+        }
+        join(presentThread);
+        join(loopThread);
     }
 
-    private void gameLoop() {
+    private void join(final Thread thread) {
+        if (thread == null || thread == Thread.currentThread()) {
+            return;
+        }
+        LockSupport.unpark(thread);
         try {
-            final Integer fpsLimit = 60;
-            final long[] currentTime = {System.currentTimeMillis()};
-            final TextGraphics textGraphics = terminal.newTextGraphics();
-            timer = new Timer(-1, event -> {
-                while (fpsLimit != null && fpsLimit > 0
-                                && frameTime(currentTime[0]) < (1f / fpsLimit)) {
-                    sleep();
-                }
-                handleInput();
-                final float elapsed = frameTime(currentTime[0]);
-                update(elapsed);
-                clearScreen();
-                render(textGraphics);
-                flush();
-                currentTime[0] = System.currentTimeMillis();
-            });
-            timer.start();
-        } catch (final IOException exception) {
+            thread.join();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(exception);
         }
     }
 
-    private void handleInput() {
-        if (handler == null || actionBinding == null) {
-            return;
+    private void runLoop(final Runnable loop) {
+        try {
+            loop.run();
+        } catch (final RuntimeException | Error exception) {
+            // report it like an uncaught exception, but do not leave the game frozen
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+            finish(false);
+        }
+    }
+
+    private void gameLoop() {
+        final TextGraphics textGraphics = frameBuffer.newTextGraphics();
+        final long frameBudget = NANOS_PER_SECOND / (fpsLimit > 0 ? fpsLimit : updateRate);
+        previousTime = System.nanoTime();
+        while (running) {
+            final long frameStart = System.nanoTime();
+            handleInput();
+            if (!running) {
+                // finished by a handler
+                return;
+            }
+            long time = measure(Phase.INPUT, frameStart);
+            advance(frameStart);
+            time = measure(Phase.UPDATE, time);
+            clearScreen();
+            time = measure(Phase.CLEAR, time);
+            render(textGraphics);
+            time = measure(Phase.RENDER, time);
+            flush();
+            time = measure(Phase.FLUSH, time);
+            statistics.recordFrame(time - frameStart, frameBudget);
+            if (fpsLimit > 0) {
+                sleepUntil(frameStart + NANOS_PER_SECOND / fpsLimit);
+            }
         }
+    }
+
+    private void simulationLoop() {
+        final long updateStep = NANOS_PER_SECOND / updateRate;
+        previousTime = System.nanoTime();
+        while (running) {
+            final long frameStart = System.nanoTime();
+            handleInput();
+            if (!running) {
+                // finished by a handler
+                return;
+            }
+            long time = measure(Phase.INPUT, frameStart);
+            advance(frameStart);
+            time = measure(Phase.UPDATE, time);
+            final TextImage frame = frames.getWriteBuffer();
+            frame.setAll(TextCharacter.DEFAULT_CHARACTER);
+            time = measure(Phase.CLEAR, time);
+            render(frame.newTextGraphics());
+            frames.publish();
+            time = measure(Phase.RENDER, time);
+            statistics.recordFrame(time - frameStart, updateStep);
+            sleepUntil(frameStart + updateStep);
+        }
+    }
+
+    private void presentationLoop() {
+        while (running) {
+            final long frameStart = System.nanoTime();
+            if (frames.update()) {
+                present(frames.getReadBuffer());
+                measure(Phase.FLUSH, frameStart);
+            }
+            if (fpsLimit > 0) {
+                sleepUntil(frameStart + NANOS_PER_SECOND / fpsLimit);
+            } else {
+                sleepUntil(frameStart + PRESENT_IDLE_NANOS);
+            }
+        }
+    }
+
+    private long measure(final Phase phase, final long start) {
+        final long now = System.nanoTime();
+        statistics.record(phase, now - start);
+        return now;
+    }
+
+    void advance(final long now) {
+        final long updateStep = NANOS_PER_SECOND / updateRate;
+        final float elapsed = 1f / updateRate;
+        // clamp long stalls (debugger, GC) so the accumulator cannot spiral
+        accumulator += Math.min(now - previousTime, maxFrameNanos);
+        previousTime = now;
+        final int pending = (int) (accumulator / updateStep);
+        final int steps = framePacing.steps(pending, maxSkip);
+        for (int step = 0; step < steps; step++) {
+            update(elapsed);
+        }
+        accumulator -= pending * updateStep;
+        statistics.recordPacing(steps, pending - steps);
+    }
+
+    private void handleInput() {
         try {
             KeyStroke keyStroke;
-            while ((keyStroke = terminal.pollInput()) != null) {
-                actionBinding.resolve(keyStroke) //
-                                .ifPresent(this::dispatch);
+            if (inputRing != null) {
+                while ((keyStroke = inputRing.poll()) != null) {
+                    handleInput(keyStroke, inputRing.getTimestamp());
+                }
+                inputCollector.checkFailure();
+            } else {
+                while ((keyStroke = terminal.pollInput()) != null) {
+                    handleInput(keyStroke, System.nanoTime());
+                }
             }
+            keyState.snapshot(System.nanoTime());
         } catch (final IOException exception) {
             throw new RuntimeException(exception);
         }
     }
 
+    private void handleInput(final KeyStroke keyStroke, final long timestamp) {
+        keyState.record(keyStroke, timestamp);
+        if ((handler == null && actionHandler == null) || actionBinding == null) {
+            return;
+        }
+        final int actionId = actionBinding.resolveId(keyStroke);
+        if (actionId != ActionBinding.NO_ACTION) {
+            dispatch(actionId);
+        }
+    }
+
     private void update(final float elapsed) {
         if (update == null) {
             return;
@@ -177,10 +485,19 @@ public class TerminalGame {
     }
 
     private void render(final TextGraphics textGraphics) {
-        if (render == null) {
-            return;
+        if (render != null) {
+            render.render(textGraphics);
+        }
+        if (statisticsOverlay != null) {
+            statisticsOverlay.render(textGraphics);
         }
-        render.render(textGraphics);
+    }
+
+    private void dispatch(final int actionId) {
+        if (actionHandler != null) {
+            actionHandler.handle(this, actionId);
+        }
+        dispatch(actionBinding.getAction(actionId));
     }
 
     private void dispatch(final Event event) {
@@ -192,22 +509,9 @@ public class TerminalGame {
 
     private Terminal initializeTerminal() {
         try {
-            if (font == null) {
-                font = new Font("DejaVu Sans Mono", Font.BOLD, fontSize);
-            } else {
-                font = font.deriveFont(Font.BOLD, fontSize);
-            }
-            if (AWTTerminalFontConfiguration.filterMonospaced(font).length != 1) {
-                throw new IllegalArgumentException(
-                                String.format("Font %s is not mono-spaced.", font));
-            }
-
-            final Terminal terminal = new DefaultTerminalFactory() //
-                            .setInitialTerminalSize(new TerminalSize(columns, rows)) //
-                            .setTerminalEmulatorTitle(title) //
-                            .setTerminalEmulatorFontConfiguration(
-                                            SwingTerminalFontConfiguration.newInstance(font)) //
-                            .createTerminal();
+            final TerminalFactory factory =
+                            terminalFactory != null ? terminalFactory : swingTerminalFactory();
+            final Terminal terminal = factory.createTerminal();
             terminal.setCursorVisible(false);
             if (terminal instanceof SwingTerminalFrame) {
                 final SwingTerminalFrame swingTerminal = (SwingTerminalFrame) terminal;
@@ -229,11 +533,26 @@ public class TerminalGame {
         }
     }
 
-    private void sleep() {
-        try {
-            Thread.sleep(0);
-        } catch (final InterruptedException exception) {
-            throw new RuntimeException(exception);
+    private TerminalFactory swingTerminalFactory() {
+        if (font == null) {
+            font = new Font("DejaVu Sans Mono", Font.BOLD, fontSize);
+        } else {
+            font = font.deriveFont(Font.BOLD, fontSize);
+        }
+        if (AWTTerminalFontConfiguration.filterMonospaced(font).length != 1) {
+            throw new IllegalArgumentException(String.format("Font %s is not mono-spaced.", font));
+        }
+        return new DefaultTerminalFactory() //
+                        .setInitialTerminalSize(new TerminalSize(columns, rows)) //
+                        .setTerminalEmulatorTitle(title) //
+                        .setTerminalEmulatorFontConfiguration(
+                                        SwingTerminalFontConfiguration.newInstance(font));
+    }
+
+    private void sleepUntil(final long deadline) {
+        long remaining;
+        while (running && (remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
         }
     }
 
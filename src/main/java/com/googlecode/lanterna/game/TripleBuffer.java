@@ -0,0 +1,82 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer handing snapshots from exactly one producer to exactly one consumer.
+ * Neither side ever waits: the producer always owns a buffer to write, the consumer always owns
+ * the latest published buffer and the third buffer is swapped between them atomically.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100;
+
+    private final Object[] buffers;
+    private final AtomicInteger shared = new AtomicInteger(1);
+
+    private int writeIndex = 0;
+    private int readIndex = 2;
+
+    public TripleBuffer(final Supplier<T> factory) {
+        buffers = new Object[] {factory.get(), factory.get(), factory.get()};
+    }
+
+    /**
+     * @return the buffer owned by the producer
+     */
+    public T getWriteBuffer() {
+        return buffer(writeIndex);
+    }
+
+    /**
+     * Hands the write buffer over to the consumer, the producer continues with another buffer.
+     */
+    public void publish() {
+        writeIndex = shared.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Takes over the latest published buffer, if there is one the consumer has not seen yet.
+     *
+     * @return {@code true} if the read buffer has changed
+     */
+    public boolean update() {
+        if ((shared.get() & FRESH) == 0) {
+            return false;
+        }
+        readIndex = shared.getAndSet(readIndex) & INDEX_MASK;
+        return true;
+    }
+
+    /**
+     * @return the buffer owned by the consumer
+     */
+    public T getReadBuffer() {
+        return buffer(readIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T buffer(final int index) {
+        return (T) buffers[index];
+    }
+
+}
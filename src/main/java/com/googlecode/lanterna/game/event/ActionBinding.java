@@ -17,20 +17,48 @@ package com.googlecode.lanterna.game.event;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
 import com.googlecode.lanterna.input.KeyStroke;
+import com.googlecode.lanterna.input.KeyType;
 
 /**
+ * Binds {@link KeyStroke}s to {@link Action}s. Every bound action gets a dense integer id, in the
+ * order the actions are registered. {@link #resolveId(KeyStroke)} looks key strokes up in flat
+ * tables, so resolving by id never allocates.
+ *
  * @author Klaus Hauschild
  * @since 3.0.1
  */
 public class ActionBinding {
 
-    private final Map<KeyStroke, Action> actions = new HashMap<>();
+    public static final int NO_ACTION = -1;
+
+    private static final int MODIFIERS = 8;
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final List<Action> actions = new ArrayList<>();
+    private final Map<Action, Integer> ids = new IdentityHashMap<>();
+    private final int[] keyTypes = newTable(KeyType.values().length * MODIFIERS);
+    private final int[][] characterPages = new int[(Character.MAX_VALUE + 1) >> PAGE_BITS][];
+
+    /**
+     * @param actions registered up front in the given order, e.g. {@code values()} of an enum to
+     *                make action ids match the ordinals
+     */
+    public ActionBinding(final Action... actions) {
+        for (final Action action : actions) {
+            register(action);
+        }
+    }
 
     public static ActionBinding from(final InputStream stream) {
         try {
@@ -71,13 +99,78 @@ public class ActionBinding {
         }
     }
 
+    private static int[] newTable(final int size) {
+        final int[] table = new int[size];
+        Arrays.fill(table, NO_ACTION);
+        return table;
+    }
+
+    private static int modifiers(final KeyStroke keyStroke) {
+        return (keyStroke.isCtrlDown() ? 1 : 0) //
+                        | (keyStroke.isAltDown() ? 2 : 0) //
+                        | (keyStroke.isShiftDown() ? 4 : 0);
+    }
+
     public ActionBinding bind(final KeyStroke keyStroke, final Action action) {
-        actions.put(keyStroke, action);
+        final int id = register(action);
+        if (keyStroke.getKeyType() == KeyType.Character) {
+            final char character = keyStroke.getCharacter();
+            int[] page = characterPages[character >> PAGE_BITS];
+            if (page == null) {
+                page = newTable(PAGE_SIZE * MODIFIERS);
+                characterPages[character >> PAGE_BITS] = page;
+            }
+            page[(character & PAGE_MASK) * MODIFIERS + modifiers(keyStroke)] = id;
+        } else {
+            keyTypes[keyStroke.getKeyType().ordinal() * MODIFIERS + modifiers(keyStroke)] = id;
+        }
         return this;
     }
 
     public Optional<Action> resolve(final KeyStroke keyStroke) {
-        return Optional.ofNullable(actions.get(keyStroke));
+        final int id = resolveId(keyStroke);
+        if (id == NO_ACTION) {
+            return Optional.empty();
+        }
+        return Optional.of(actions.get(id));
+    }
+
+    /**
+     * @return the id of the action bound to the given key stroke or {@link #NO_ACTION}
+     */
+    public int resolveId(final KeyStroke keyStroke) {
+        if (keyStroke.getKeyType() == KeyType.Character) {
+            final char character = keyStroke.getCharacter();
+            final int[] page = characterPages[character >> PAGE_BITS];
+            if (page == null) {
+                return NO_ACTION;
+            }
+            return page[(character & PAGE_MASK) * MODIFIERS + modifiers(keyStroke)];
+        }
+        return keyTypes[keyStroke.getKeyType().ordinal() * MODIFIERS + modifiers(keyStroke)];
+    }
+
+    public Action getAction(final int id) {
+        return actions.get(id);
+    }
+
+    /**
+     * @return the id of the given action or {@link #NO_ACTION} if it is not registered
+     */
+    public int getId(final Action action) {
+        final Integer id = ids.get(action);
+        return id == null ? NO_ACTION : id;
+    }
+
+    public int getActionCount() {
+        return actions.size();
+    }
+
+    private int register(final Action action) {
+        return ids.computeIfAbsent(action, unused -> {
+            actions.add(action);
+            return actions.size() - 1;
+        });
     }
 
 }
@@ -0,0 +1,31 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.event;
+
+import com.googlecode.lanterna.game.TerminalGame;
+
+/**
+ * Receives resolved actions by their {@link ActionBinding} id, e.g. to pick the reaction with a
+ * {@code switch} instead of comparing {@link Event}s.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+@FunctionalInterface
+public interface ActionHandler {
+
+    void handle(TerminalGame terminalGame, int actionId);
+
+}
@@ -22,6 +22,10 @@ import java.util.function.Consumer;
  */
 public interface Event {
 
+    default boolean is(final Event event) {
+        return this == event;
+    }
+
     default <T extends Event> void is(final T event, final Consumer<T> handler) {
         if (this == event) {
             handler.accept(event);
@@ -0,0 +1,259 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.game.Update;
+import com.googlecode.lanterna.game.image.TextAnimation.Type;
+import com.googlecode.lanterna.graphics.TextGraphics;
+
+/**
+ * Plays back any number of {@link TextAnimationClip}s, keeping every playback in parallel
+ * primitive arrays instead of one {@link TextAnimation} object each.
+ * <p>
+ * Clips are registered once and addressed by clip id, playbacks are addressed by playback id. Ids
+ * of stopped playbacks are reused. All playbacks are advanced in one loop per
+ * {@link #update(float)}, split into batches on a {@link ForkJoinPool} once there are more than
+ * the batch size. Unlike {@link TextAnimation} a paused playback does not advance.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class AnimationSystem implements Update {
+
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private static final int FREE = -1;
+    private static final byte FORWARD = 0;
+    private static final byte LOOP = 1;
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    private TextAnimationClip[] clips = new TextAnimationClip[0];
+
+    private int[] clipIds = new int[16];
+    private float[] times = new float[16];
+    private int[] frames = new int[16];
+    private byte[] modes = new byte[16];
+    private boolean[] playing = new boolean[16];
+    private int playbacks;
+    private int[] freeIds = new int[16];
+    private int freeCount;
+
+    public AnimationSystem() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public AnimationSystem(final ForkJoinPool pool, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(
+                            String.format("Batch size %d is not positive.", batchSize));
+        }
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return the id of the clip
+     */
+    public int addClip(final TextAnimationClip clip) {
+        final int id = clips.length;
+        clips = Arrays.copyOf(clips, id + 1);
+        clips[id] = clip;
+        return id;
+    }
+
+    public TextAnimationClip getClip(final int clipId) {
+        return clips[clipId];
+    }
+
+    /**
+     * Starts playing the clip as defined by its {@link Type}.
+     *
+     * @return the id of the playback
+     */
+    public int play(final int clipId) {
+        checkClip(clipId);
+        return play(clipId, clips[clipId].getType());
+    }
+
+    /**
+     * @return the id of the playback
+     */
+    public int play(final int clipId, final Type type) {
+        checkClip(clipId);
+        final int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            if (playbacks == clipIds.length) {
+                grow(playbacks * 2);
+            }
+            id = playbacks++;
+        }
+        clipIds[id] = clipId;
+        times[id] = 0;
+        frames[id] = 0;
+        modes[id] = type == Type.LOOP ? LOOP : FORWARD;
+        playing[id] = true;
+        return id;
+    }
+
+    /**
+     * Ends the playback, its id may be handed out again by {@link #play(int)}.
+     */
+    public void stop(final int playback) {
+        checkPlayback(playback);
+        clipIds[playback] = FREE;
+        playing[playback] = false;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = playback;
+    }
+
+    public void pause(final int playback) {
+        checkPlayback(playback);
+        playing[playback] = false;
+    }
+
+    public void resume(final int playback) {
+        checkPlayback(playback);
+        playing[playback] = true;
+    }
+
+    /**
+     * @return {@code false} once paused or a forward playback has reached its end
+     */
+    public boolean isPlaying(final int playback) {
+        return playing[playback];
+    }
+
+    /**
+     * @return the number of playbacks not stopped
+     */
+    public int size() {
+        return playbacks - freeCount;
+    }
+
+    /**
+     * @return the index of the current frame within the clip of the playback
+     */
+    public int getFrame(final int playback) {
+        return frames[playback];
+    }
+
+    public TransparentTextImage getImage(final int playback) {
+        checkPlayback(playback);
+        return clips[clipIds[playback]].getImage(frames[playback]);
+    }
+
+    public void render(final TextGraphics textGraphics, final int playback,
+                    final TerminalPosition position) {
+        getImage(playback).drawImageWithTransparency(textGraphics, position);
+    }
+
+    @Override
+    public void update(final float elapsed) {
+        if (playbacks > batchSize) {
+            pool.invoke(new Batch(0, playbacks, elapsed));
+        } else {
+            advance(0, playbacks, elapsed);
+        }
+    }
+
+    private void advance(final int from, final int until, final float elapsed) {
+        final TextAnimationClip[] clips = this.clips;
+        final int[] clipIds = this.clipIds;
+        final float[] times = this.times;
+        final int[] frames = this.frames;
+        final byte[] modes = this.modes;
+        final boolean[] playing = this.playing;
+        for (int index = from; index < until; index++) {
+            if (!playing[index]) {
+                continue;
+            }
+            final TextAnimationClip clip = clips[clipIds[index]];
+            final float duration = clip.getDuration();
+            float time = times[index] + elapsed;
+            if (time >= duration) {
+                if (modes[index] == LOOP) {
+                    time = duration > 0 ? time % duration : 0;
+                    frames[index] = clip.findFrame(time);
+                } else {
+                    time = duration;
+                    frames[index] = clip.getFrameCount() - 1;
+                    playing[index] = false;
+                }
+                times[index] = time;
+                continue;
+            }
+            times[index] = time;
+            frames[index] = clip.findFrame(frames[index], time);
+        }
+    }
+
+    private void checkClip(final int clipId) {
+        if (clipId < 0 || clipId >= clips.length) {
+            throw new IllegalArgumentException(String.format("Unknown clip %d.", clipId));
+        }
+    }
+
+    private void checkPlayback(final int playback) {
+        if (playback < 0 || playback >= playbacks || clipIds[playback] == FREE) {
+            throw new IllegalArgumentException(String.format("Unknown playback %d.", playback));
+        }
+    }
+
+    private void grow(final int capacity) {
+        clipIds = Arrays.copyOf(clipIds, capacity);
+        times = Arrays.copyOf(times, capacity);
+        frames = Arrays.copyOf(frames, capacity);
+        modes = Arrays.copyOf(modes, capacity);
+        playing = Arrays.copyOf(playing, capacity);
+    }
+
+    private class Batch extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int until;
+        private final float elapsed;
+
+        private Batch(final int from, final int until, final float elapsed) {
+            this.from = from;
+            this.until = until;
+            this.elapsed = elapsed;
+        }
+
+        @Override
+        protected void compute() {
+            if (until - from <= batchSize) {
+                advance(from, until, elapsed);
+                return;
+            }
+            final int middle = (from + until) >>> 1;
+            invokeAll(new Batch(from, middle, elapsed), new Batch(middle, until, elapsed));
+        }
+
+    }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.core.io.Resource;
+
+import com.googlecode.lanterna.graphics.TextImage;
+
+/**
+ * Shares decoded images and animation clips, keyed by the URL of their {@link Resource}.
+ * <p>
+ * Assets are kept in least recently used order until their estimated size exceeds the byte limit.
+ * Evicted assets are only softly referenced and come back without decoding as long as the garbage
+ * collector has not cleared them. Threads asking for an asset that is being loaded wait for that
+ * load instead of starting their own. Shared images must not be modified.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class AssetCache {
+
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final String IMAGE = "image:";
+    private static final String CLIP = "clip:";
+
+    private final long maxBytes;
+
+    private final LinkedHashMap<String, Asset> assets = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, SoftAsset> evicted = new HashMap<>();
+    private final ReferenceQueue<Object> cleared = new ReferenceQueue<>();
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder loadedBytes = new LongAdder();
+
+    public AssetCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    public AssetCache(final long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException(
+                            String.format("Maximum size %d is not positive.", maxBytes));
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    public TransparentTextImage getImage(final Resource resource) {
+        return (TransparentTextImage) get(IMAGE + key(resource), resource, TextImageIO::read);
+    }
+
+    public TextAnimationClip getClip(final Resource resource) {
+        return (TextAnimationClip) get(CLIP + key(resource), resource,
+                        clipResource -> TextAnimationClip.read(clipResource, this::getImage));
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of requests that waited for a load started by another thread, counted
+     *         neither as hit nor as miss
+     */
+    public long getWaits() {
+        return waits.sum();
+    }
+
+    /**
+     * @return the estimated size of all strongly cached assets
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the estimated size of all assets loaded so far
+     */
+    public long getLoadedBytes() {
+        return loadedBytes.sum();
+    }
+
+    /**
+     * @return the number of strongly cached assets
+     */
+    public synchronized int size() {
+        return assets.size();
+    }
+
+    public synchronized void clear() {
+        assets.clear();
+        evicted.clear();
+        bytes = 0;
+    }
+
+    private Object get(final String key, final Resource resource,
+                    final Function<Resource, Object> loader) {
+        final Object cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        final CompletableFuture<Object> load = new CompletableFuture<>();
+        final CompletableFuture<Object> running = loading.putIfAbsent(key, load);
+        if (running != null) {
+            waits.increment();
+            return await(running);
+        }
+        try {
+            // another thread may have finished loading right before
+            Object value = lookup(key);
+            if (value != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                value = loader.apply(resource);
+                store(key, value);
+            }
+            load.complete(value);
+            return value;
+        } catch (final RuntimeException exception) {
+            load.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    private synchronized Object lookup(final String key) {
+        final Asset asset = assets.get(key);
+        if (asset != null) {
+            return asset.value;
+        }
+        purgeCleared();
+        final SoftAsset softAsset = evicted.remove(key);
+        if (softAsset == null) {
+            return null;
+        }
+        final Object value = softAsset.get();
+        if (value != null) {
+            put(key, value, softAsset.bytes);
+        }
+        return value;
+    }
+
+    private synchronized void store(final String key, final Object value) {
+        final long size = sizeOf(value);
+        loadedBytes.add(size);
+        put(key, value, size);
+    }
+
+    private void put(final String key, final Object value, final long size) {
+        final Asset previous = assets.put(key, new Asset(value, size));
+        if (previous != null) {
+            bytes -= previous.bytes;
+        }
+        bytes += size;
+        final Iterator<Map.Entry<String, Asset>> eldest = assets.entrySet().iterator();
+        while (bytes > maxBytes && assets.size() > 1) {
+            final Map.Entry<String, Asset> entry = eldest.next();
+            final Asset asset = entry.getValue();
+            bytes -= asset.bytes;
+            evicted.put(entry.getKey(),
+                            new SoftAsset(entry.getKey(), asset.value, asset.bytes, cleared));
+            eldest.remove();
+        }
+    }
+
+    private void purgeCleared() {
+        SoftAsset softAsset;
+        while ((softAsset = (SoftAsset) cleared.poll()) != null) {
+            evicted.remove(softAsset.key, softAsset);
+        }
+    }
+
+    private static Object await(final CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private static String key(final Resource resource) {
+        try {
+            return resource.getURL().toExternalForm();
+        } catch (final IOException exception) {
+            // resources without URL are identified by their description
+            return resource.getDescription();
+        }
+    }
+
+    private static long sizeOf(final Object value) {
+        if (value instanceof PackedTextImage) {
+            final PackedTextImage image = (PackedTextImage) value;
+            return 64 + 12L * image.getColumns() * image.getRows();
+        }
+        if (value instanceof TextImage) {
+            final TextImage image = (TextImage) value;
+            return 64 + 32L * image.getSize().getColumns() * image.getSize().getRows();
+        }
+        if (value instanceof TextAnimationClip) {
+            return ((TextAnimationClip) value).getByteSize();
+        }
+        return 64;
+    }
+
+    private static final class Asset {
+
+        private final Object value;
+        private final long bytes;
+
+        private Asset(final Object value, final long bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+
+    }
+
+    private static final class SoftAsset extends SoftReference<Object> {
+
+        private final String key;
+        private final long bytes;
+
+        private SoftAsset(final String key, final Object value, final long bytes,
+                        final ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.key = key;
+            this.bytes = bytes;
+        }
+
+    }
+
+}
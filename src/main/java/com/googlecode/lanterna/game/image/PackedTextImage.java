@@ -0,0 +1,326 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.util.Arrays;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.game.Rectangle;
+import com.googlecode.lanterna.graphics.AbstractTextGraphics;
+import com.googlecode.lanterna.graphics.TextGraphics;
+import com.googlecode.lanterna.graphics.TextImage;
+
+/**
+ * {@link TextImage} storing its cells in primitive arrays instead of one {@link TextCharacter} per
+ * cell, see {@link TextCells} for the encoding. {@link TextCharacter}s are only created when cells
+ * are read through the {@link TextImage} API.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class PackedTextImage implements TextImage {
+
+    final TerminalSize size;
+    final int columns;
+    final int rows;
+    final int[] glyphs;
+    final long[] colors;
+
+    public PackedTextImage(final TerminalSize size) {
+        this(size, TextCharacter.DEFAULT_CHARACTER);
+    }
+
+    public PackedTextImage(final TerminalSize size, final TextCharacter initialContent) {
+        this.size = size;
+        columns = size.getColumns();
+        rows = size.getRows();
+        glyphs = new int[columns * rows];
+        colors = new long[columns * rows];
+        setAll(initialContent);
+    }
+
+    @Override
+    public TerminalSize getSize() {
+        return size;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the encoded glyph of the cell, see {@link TextCells}
+     */
+    public int getGlyph(final int column, final int row) {
+        return glyphs[row * columns + column];
+    }
+
+    /**
+     * @return the encoded colors of the cell, see {@link TextCells}
+     */
+    public long getColors(final int column, final int row) {
+        return colors[row * columns + column];
+    }
+
+    /**
+     * Sets an encoded cell, see {@link TextCells}.
+     */
+    public void setCell(final int column, final int row, final int glyph, final long colors) {
+        final int index = row * columns + column;
+        glyphs[index] = glyph;
+        this.colors[index] = colors;
+        changed();
+    }
+
+    @Override
+    public TextCharacter getCharacterAt(final TerminalPosition position) {
+        return getCharacterAt(position.getColumn(), position.getRow());
+    }
+
+    @Override
+    public TextCharacter getCharacterAt(final int column, final int row) {
+        if (!contains(column, row)) {
+            return null;
+        }
+        final int index = row * columns + column;
+        return TextCells.decode(glyphs[index], colors[index]);
+    }
+
+    @Override
+    public void setCharacterAt(final TerminalPosition position, final TextCharacter character) {
+        setCharacterAt(position.getColumn(), position.getRow(), character);
+    }
+
+    @Override
+    public void setCharacterAt(final int column, final int row, final TextCharacter character) {
+        if (character == null) {
+            throw new IllegalArgumentException("Cannot set TextCharacter to null");
+        }
+        if (!contains(column, row)) {
+            return;
+        }
+        setCell(column, row, TextCells.encodeGlyph(character), TextCells.encodeColors(character));
+    }
+
+    @Override
+    public void setAll(final TextCharacter character) {
+        if (character == null) {
+            throw new IllegalArgumentException("Cannot call setAll(..) with null character");
+        }
+        Arrays.fill(glyphs, TextCells.encodeGlyph(character));
+        Arrays.fill(colors, TextCells.encodeColors(character));
+        changed();
+    }
+
+    @Override
+    public PackedTextGraphics newTextGraphics() {
+        return new PackedTextGraphics(this, new Rectangle(0, 0, columns, rows));
+    }
+
+    /**
+     * @return a {@link TextGraphics} using the coordinates of the whole image, but modifying only
+     *         the cells inside of the clip
+     */
+    public PackedTextGraphics newTextGraphics(final Rectangle clip) {
+        return new PackedTextGraphics(this, clip.intersection(new Rectangle(0, 0, columns, rows)));
+    }
+
+    @Override
+    public PackedTextImage resize(final TerminalSize newSize, final TextCharacter filler) {
+        if (newSize == null || filler == null) {
+            throw new IllegalArgumentException(
+                            "Cannot resize PackedTextImage with null newSize or filler");
+        }
+        if (newSize.getColumns() == columns && newSize.getRows() == rows) {
+            return this;
+        }
+        final PackedTextImage resized = new PackedTextImage(newSize, filler);
+        copyTo(resized);
+        return resized;
+    }
+
+    @Override
+    public void copyTo(final TextImage destination) {
+        copyTo(destination, 0, rows, 0, columns, 0, 0);
+    }
+
+    @Override
+    public void copyTo(final TextImage destination, int startRowIndex, int rows,
+                    int startColumnIndex, int columns, int destinationRowOffset,
+                    int destinationColumnOffset) {
+        // If the source image position is negative, offset the whole image
+        if (startColumnIndex < 0) {
+            destinationColumnOffset += -startColumnIndex;
+            columns += startColumnIndex;
+            startColumnIndex = 0;
+        }
+        if (startRowIndex < 0) {
+            destinationRowOffset += -startRowIndex;
+            rows += startRowIndex;
+            startRowIndex = 0;
+        }
+
+        // If the destination offset is negative, adjust the source start indexes
+        if (destinationColumnOffset < 0) {
+            startColumnIndex -= destinationColumnOffset;
+            columns += destinationColumnOffset;
+            destinationColumnOffset = 0;
+        }
+        if (destinationRowOffset < 0) {
+            startRowIndex -= destinationRowOffset;
+            rows += destinationRowOffset;
+            destinationRowOffset = 0;
+        }
+
+        // Make sure we can't copy more than is available
+        columns = Math.min(this.columns - startColumnIndex, columns);
+        rows = Math.min(this.rows - startRowIndex, rows);
+        columns = Math.min(destination.getSize().getColumns() - destinationColumnOffset, columns);
+        rows = Math.min(destination.getSize().getRows() - destinationRowOffset, rows);
+        if (columns <= 0 || rows <= 0) {
+            return;
+        }
+
+        if (destination instanceof PackedTextImage) {
+            final PackedTextImage packedDestination = (PackedTextImage) destination;
+            for (int row = 0; row < rows; row++) {
+                final int from = (startRowIndex + row) * this.columns + startColumnIndex;
+                final int to = (destinationRowOffset + row) * packedDestination.columns
+                                + destinationColumnOffset;
+                System.arraycopy(glyphs, from, packedDestination.glyphs, to, columns);
+                System.arraycopy(colors, from, packedDestination.colors, to, columns);
+            }
+            packedDestination.changed();
+            return;
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                destination.setCharacterAt(destinationColumnOffset + column,
+                                destinationRowOffset + row,
+                                getCharacterAt(startColumnIndex + column, startRowIndex + row));
+            }
+        }
+    }
+
+    @Override
+    public void scrollLines(int firstLine, int lastLine, final int distance) {
+        if (firstLine < 0) {
+            firstLine = 0;
+        }
+        if (lastLine >= rows) {
+            lastLine = rows - 1;
+        }
+        if (firstLine >= lastLine || distance == 0) {
+            return;
+        }
+        final int lines = lastLine - firstLine + 1;
+        final int moved = Math.max(lines - Math.abs(distance), 0);
+        final int blankFrom;
+        if (distance > 0) {
+            // scrolling up
+            System.arraycopy(glyphs, (firstLine + distance) * columns, glyphs,
+                            firstLine * columns, moved * columns);
+            System.arraycopy(colors, (firstLine + distance) * columns, colors,
+                            firstLine * columns, moved * columns);
+            blankFrom = firstLine + moved;
+        } else {
+            // scrolling down
+            System.arraycopy(glyphs, firstLine * columns, glyphs, (lastLine - moved + 1) * columns,
+                            moved * columns);
+            System.arraycopy(colors, firstLine * columns, colors, (lastLine - moved + 1) * columns,
+                            moved * columns);
+            blankFrom = firstLine;
+        }
+        final int blankUntil = (blankFrom + lines - moved) * columns;
+        Arrays.fill(glyphs, blankFrom * columns, blankUntil, TextCells.DEFAULT_GLYPH);
+        Arrays.fill(colors, blankFrom * columns, blankUntil, TextCells.DEFAULT_COLORS);
+        changed();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(rows * (columns + 1));
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                builder.append(TextCells.character(glyphs[row * columns + column]));
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    boolean contains(final int column, final int row) {
+        return column >= 0 && column < columns && row >= 0 && row < rows;
+    }
+
+    /**
+     * Called after cells have been modified.
+     */
+    void changed() {
+    }
+
+    /**
+     * {@link TextGraphics} drawing into a {@link PackedTextImage}.
+     */
+    public static class PackedTextGraphics extends AbstractTextGraphics {
+
+        private final PackedTextImage image;
+        private final Rectangle clip;
+
+        private PackedTextGraphics(final PackedTextImage image, final Rectangle clip) {
+            this.image = image;
+            this.clip = clip;
+        }
+
+        public PackedTextImage getImage() {
+            return image;
+        }
+
+        /**
+         * @return the cells this graphics may modify
+         */
+        public Rectangle getClip() {
+            return clip;
+        }
+
+        @Override
+        public TerminalSize getSize() {
+            return image.getSize();
+        }
+
+        @Override
+        public TextGraphics setCharacter(final int column, final int row,
+                        final TextCharacter character) {
+            if (column >= clip.getColumn() && column < clip.getColumn() + clip.getColumns()
+                            && row >= clip.getRow() && row < clip.getRow() + clip.getRows()) {
+                image.setCharacterAt(column, row, character);
+            }
+            return this;
+        }
+
+        @Override
+        public TextCharacter getCharacter(final int column, final int row) {
+            return image.getCharacterAt(column, row);
+        }
+
+    }
+
+}
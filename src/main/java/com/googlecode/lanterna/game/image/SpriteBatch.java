@@ -0,0 +1,218 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.util.Arrays;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.game.Rectangle;
+import com.googlecode.lanterna.game.image.PackedTextImage.PackedTextGraphics;
+import com.googlecode.lanterna.graphics.TextGraphics;
+
+/**
+ * Collects the sprites of a frame and draws them with every visible cell written once.
+ * <p>
+ * Images are {@link #submit(PackedTextImage, TerminalPosition, int) submitted} with a position and
+ * a z order; images with a higher z are above, for equal z later submissions are above earlier
+ * ones. {@link #flush(TextGraphics)} resolves the submissions from the top down: a cell covered by
+ * an opaque cell is skipped for all images below, transparent cells with a glyph take their
+ * background from the first opaque cell below them or from the target, and empty transparent cells
+ * are skipped. The result equals drawing all images bottom up with
+ * {@link TransparentTextImage#drawImageWithTransparency(TextGraphics, TerminalPosition)}.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class SpriteBatch {
+
+    private static final long FOREGROUND_MASK = 0xFFFFFFFF00000000L;
+
+    private static final byte OPEN = 0;
+    private static final byte PENDING = 1;
+    private static final byte COVERED = 2;
+
+    private PackedTextImage[] images = new PackedTextImage[64];
+    private int[] columns = new int[64];
+    private int[] rows = new int[64];
+    // z in the upper, submission order in the lower 32 bits
+    private long[] keys = new long[64];
+    private int count;
+
+    // per target cell resolve state, valid while the stamp equals the generation
+    private int[] stamps = new int[0];
+    private byte[] states = new byte[0];
+    private int[] pendingGlyphs = new int[0];
+    private long[] pendingColors = new long[0];
+    private int[] pendingCells = new int[0];
+    private int generation;
+
+    private long cellsWritten;
+
+    public void submit(final PackedTextImage image, final TerminalPosition position, final int z) {
+        if (count == images.length) {
+            images = Arrays.copyOf(images, count * 2);
+            columns = Arrays.copyOf(columns, count * 2);
+            rows = Arrays.copyOf(rows, count * 2);
+            keys = Arrays.copyOf(keys, count * 2);
+        }
+        images[count] = image;
+        columns[count] = position.getColumn();
+        rows[count] = position.getRow();
+        keys[count] = (long) z << 32 | count;
+        count++;
+    }
+
+    /**
+     * Submits the current image of the sprite at its position and z order.
+     */
+    public void submit(final TextSprite sprite) {
+        submit(sprite.getCurrentImage(), sprite.getPosition(), sprite.getZ());
+    }
+
+    /**
+     * @return the number of submissions since the last flush
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return the number of cells written by all flushes so far
+     */
+    public long getCellsWritten() {
+        return cellsWritten;
+    }
+
+    /**
+     * Draws all submissions and starts a new batch.
+     */
+    public void flush(final TextGraphics textGraphics) {
+        final TerminalSize size = textGraphics.getSize();
+        final PackedTextImage target;
+        final Rectangle clip;
+        if (textGraphics instanceof PackedTextGraphics) {
+            target = ((PackedTextGraphics) textGraphics).getImage();
+            clip = ((PackedTextGraphics) textGraphics).getClip();
+        } else {
+            target = null;
+            clip = new Rectangle(TerminalPosition.TOP_LEFT_CORNER, size);
+        }
+        prepare(size.getColumns() * size.getRows());
+        Arrays.sort(keys, 0, count);
+
+        int pendingCount = 0;
+        for (int submission = count - 1; submission >= 0; submission--) {
+            final int command = (int) keys[submission];
+            final PackedTextImage image = images[command];
+            final int left = columns[command];
+            final int top = rows[command];
+            final int fromColumn = Math.max(left, clip.getColumn());
+            final int untilColumn = Math.min(left + image.columns,
+                            clip.getColumn() + clip.getColumns());
+            final int fromRow = Math.max(top, clip.getRow());
+            final int untilRow = Math.min(top + image.rows, clip.getRow() + clip.getRows());
+            for (int row = fromRow; row < untilRow; row++) {
+                int source = (row - top) * image.columns + fromColumn - left;
+                int cell = row * size.getColumns() + fromColumn;
+                for (int column = fromColumn; column < untilColumn; column++, source++, cell++) {
+                    final byte state = stamps[cell] == generation ? states[cell] : OPEN;
+                    if (state == COVERED) {
+                        continue;
+                    }
+                    final int glyph = image.glyphs[source];
+                    if (!TextCells.isTransparent(glyph)) {
+                        if (state == PENDING) {
+                            write(textGraphics, target, column, row, pendingGlyphs[cell],
+                                            pendingColors[cell] & FOREGROUND_MASK
+                                                            | image.colors[source]
+                                                                            & ~FOREGROUND_MASK);
+                        } else {
+                            write(textGraphics, target, column, row, glyph, image.colors[source]);
+                        }
+                        stamps[cell] = generation;
+                        states[cell] = COVERED;
+                    } else if (state == OPEN && !TransparentTextImage.isEmpty(glyph)) {
+                        stamps[cell] = generation;
+                        states[cell] = PENDING;
+                        pendingGlyphs[cell] = glyph & ~TextCells.TRANSPARENT;
+                        pendingColors[cell] = image.colors[source];
+                        pendingCells[pendingCount++] = cell;
+                    }
+                }
+            }
+        }
+
+        // transparent cells without an opaque cell below keep the background of the target
+        for (int index = 0; index < pendingCount; index++) {
+            final int cell = pendingCells[index];
+            if (states[cell] == PENDING) {
+                mergeWithTarget(textGraphics, target, cell % size.getColumns(),
+                                cell / size.getColumns(), pendingGlyphs[cell], pendingColors[cell]);
+            }
+        }
+        if (target != null) {
+            target.changed();
+        }
+        Arrays.fill(images, 0, count, null);
+        count = 0;
+    }
+
+    private void prepare(final int cells) {
+        if (stamps.length < cells) {
+            stamps = new int[cells];
+            states = new byte[cells];
+            pendingGlyphs = new int[cells];
+            pendingColors = new long[cells];
+            pendingCells = new int[cells];
+            generation = 0;
+        }
+        generation++;
+        if (generation == 0) {
+            // stamps wrapped around, none of them may look current
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+    }
+
+    private void write(final TextGraphics textGraphics, final PackedTextImage target,
+                    final int column, final int row, final int glyph, final long colors) {
+        if (target != null) {
+            final int cell = row * target.columns + column;
+            target.glyphs[cell] = glyph;
+            target.colors[cell] = colors;
+        } else {
+            textGraphics.setCharacter(column, row, TextCells.decode(glyph, colors));
+        }
+        cellsWritten++;
+    }
+
+    private void mergeWithTarget(final TextGraphics textGraphics, final PackedTextImage target,
+                    final int column, final int row, final int glyph, final long colors) {
+        if (target != null) {
+            final int cell = row * target.columns + column;
+            target.glyphs[cell] = glyph | target.glyphs[cell] & TextCells.TRANSPARENT;
+            target.colors[cell] = colors & FOREGROUND_MASK
+                            | target.colors[cell] & ~FOREGROUND_MASK;
+            cellsWritten++;
+        } else {
+            final int background = TextCells.encodeColor(
+                            textGraphics.getCharacter(column, row).getBackgroundColor());
+            write(textGraphics, null, column, row, glyph,
+                            colors & FOREGROUND_MASK | background & 0xFFFFFFFFL);
+        }
+    }
+
+}
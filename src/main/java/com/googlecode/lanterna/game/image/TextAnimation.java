@@ -14,21 +14,12 @@
 
 package com.googlecode.lanterna.game.image;
 
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.util.AbstractMap.SimpleEntry;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
-
 import org.springframework.core.io.Resource;
 
-import com.google.gson.Gson;
+import com.googlecode.lanterna.TerminalPosition;
 import com.googlecode.lanterna.game.Render;
 import com.googlecode.lanterna.game.Update;
 import com.googlecode.lanterna.graphics.TextGraphics;
-import com.googlecode.lanterna.graphics.TextImage;
 
 /**
  * @author Klaus Hauschild
@@ -36,49 +27,34 @@ import com.googlecode.lanterna.graphics.TextImage;
  */
 public class TextAnimation implements Update, Render {
 
-    private static final Gson GSON = new Gson();
-
-    private final List<Frame> frames;
-    private final Type type;
+    private final TextAnimationClip clip;
 
-    private Frame currentFrame;
+    private int currentFrame;
     private float animationTime = 0;
     private boolean running = false;
 
-    private TextAnimation(final List<Frame> frames, final Type type) {
-        this.frames = frames;
-        this.type = type;
+    /**
+     * Creates a new playback of the clip, any number of animations may share one clip.
+     */
+    public TextAnimation(final TextAnimationClip clip) {
+        this.clip = clip;
         stop();
     }
 
     public static TextAnimation read(final Resource animationResource) {
-        try {
-            @SuppressWarnings("unchecked")
-            final Map<String, Object> definition = GSON.fromJson(
-                            new InputStreamReader(animationResource.getInputStream()), Map.class);
-            @SuppressWarnings("unchecked")
-            final List<Map<String, Object>> frameDefinitions =
-                            (List<Map<String, Object>>) definition.get("frames");
-            @SuppressWarnings("unchecked")
-            final List<Frame> frames = frameDefinitions.stream() //
-                            .map(frameDefinition -> {
-                                try {
-                                    final Resource imageResource = animationResource.createRelative(
-                                                    frameDefinition.get("image").toString());
-                                    final TextImage image = TextImageIO.read(imageResource);
-                                    final Float time = Float.parseFloat(
-                                                    frameDefinition.get("time").toString());
-                                    return new Frame(image, time);
-                                } catch (IOException exception) {
-                                    throw new RuntimeException(exception);
-                                }
-                            }) //
-                            .collect(Collectors.toList());
-            final Type type = Type.fromString(definition.get("type").toString());
-            return new TextAnimation(frames, type);
-        } catch (final IOException exception) {
-            throw new RuntimeException(exception);
-        }
+        return new TextAnimation(TextAnimationClip.read(animationResource));
+    }
+
+    /**
+     * Reads the animation with a clip shared through the cache.
+     */
+    public static TextAnimation read(final Resource animationResource,
+                    final AssetCache assetCache) {
+        return new TextAnimation(assetCache.getClip(animationResource));
+    }
+
+    public TextAnimationClip getClip() {
+        return clip;
     }
 
     public void start() {
@@ -95,7 +71,7 @@ public class TextAnimation implements Update, Render {
     }
 
     public void stop() {
-        currentFrame = frames.get(0);
+        currentFrame = 0;
         animationTime = 0;
         pause();
     }
@@ -103,28 +79,35 @@ public class TextAnimation implements Update, Render {
     @Override
     public void update(final float elapsed) {
         animationTime += elapsed;
-        final Optional<Frame> frameOptional = frames.stream() //
-                        .filter(frame -> frame.getValue() > animationTime) //
-                        .findFirst();
-        if (frameOptional.isPresent()) {
-            currentFrame = frameOptional.get();
-        } else {
-            switch (type) {
+        final float duration = clip.getDuration();
+        if (animationTime >= duration) {
+            switch (clip.getType()) {
                 case FORWARD:
+                    currentFrame = clip.getFrameCount() - 1;
                     pause();
-                    break;
+                    return;
                 case LOOP:
-                    start();
-                    break;
+                    animationTime = duration > 0 ? animationTime % duration : 0;
+                    currentFrame = clip.findFrame(animationTime);
+                    return;
                 default:
                     throw new IllegalStateException();
             }
         }
+        currentFrame = clip.findFrame(currentFrame, animationTime);
     }
 
     @Override
     public void render(final TextGraphics textGraphics) {
-        // TODO implement me
+        render(textGraphics, TerminalPosition.TOP_LEFT_CORNER);
+    }
+
+    public void render(final TextGraphics textGraphics, final TerminalPosition position) {
+        getCurrentImage().drawImageWithTransparency(textGraphics, position);
+    }
+
+    public TransparentTextImage getCurrentImage() {
+        return clip.getImage(currentFrame);
     }
 
     public enum Type {
@@ -145,12 +128,4 @@ public class TextAnimation implements Update, Render {
 
     }
 
-    private static class Frame extends SimpleEntry<TextImage, Float> {
-
-        private Frame(final TextImage image, final Float time) {
-            super(image, time);
-        }
-
-    }
-
 }
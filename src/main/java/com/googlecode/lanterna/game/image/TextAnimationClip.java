@@ -0,0 +1,177 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.Resource;
+
+import com.google.gson.Gson;
+import com.googlecode.lanterna.game.image.TextAnimation.Type;
+
+/**
+ * Immutable frames and timings of an animation, played back by any number of
+ * {@link TextAnimation}s.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public final class TextAnimationClip {
+
+    private static final Gson GSON = new Gson();
+    private static final int FRAMES_TO_SCAN = 4;
+
+    private final TransparentTextImage[] images;
+    // time at which each frame ends, counted from the start of the clip
+    private final float[] endTimes;
+    private final Type type;
+
+    private TextAnimationClip(final List<Frame> frames, final Type type) {
+        if (frames.isEmpty()) {
+            throw new IllegalArgumentException("Animation has no frames.");
+        }
+        images = new TransparentTextImage[frames.size()];
+        endTimes = new float[frames.size()];
+        float endTime = 0;
+        for (int index = 0; index < images.length; index++) {
+            images[index] = frames.get(index).getKey();
+            endTime += frames.get(index).getValue();
+            endTimes[index] = endTime;
+        }
+        this.type = type;
+    }
+
+    public static TextAnimationClip read(final Resource animationResource) {
+        return read(animationResource, TextImageIO::read);
+    }
+
+    /**
+     * Reads the clip, sharing its frame images through the cache.
+     */
+    public static TextAnimationClip read(final Resource animationResource,
+                    final AssetCache assetCache) {
+        return assetCache.getClip(animationResource);
+    }
+
+    static TextAnimationClip read(final Resource animationResource,
+                    final Function<Resource, TransparentTextImage> imageReader) {
+        try {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> definition = GSON.fromJson(
+                            new InputStreamReader(animationResource.getInputStream()), Map.class);
+            @SuppressWarnings("unchecked")
+            final List<Map<String, Object>> frameDefinitions =
+                            (List<Map<String, Object>>) definition.get("frames");
+            final List<Frame> frames = frameDefinitions.stream() //
+                            .map(frameDefinition -> {
+                                try {
+                                    final Resource imageResource = animationResource.createRelative(
+                                                    frameDefinition.get("image").toString());
+                                    final TransparentTextImage image =
+                                                    imageReader.apply(imageResource);
+                                    final Float time = Float.parseFloat(
+                                                    frameDefinition.get("time").toString());
+                                    return new Frame(image, time);
+                                } catch (IOException exception) {
+                                    throw new RuntimeException(exception);
+                                }
+                            }) //
+                            .collect(Collectors.toList());
+            final Type type = Type.fromString(definition.get("type").toString());
+            return new TextAnimationClip(frames, type);
+        } catch (final IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getFrameCount() {
+        return images.length;
+    }
+
+    public TransparentTextImage getImage(final int frame) {
+        return images[frame];
+    }
+
+    /**
+     * @return the time at which the frame ends, counted from the start of the clip
+     */
+    public float getEndTime(final int frame) {
+        return endTimes[frame];
+    }
+
+    public float getDuration() {
+        return endTimes[endTimes.length - 1];
+    }
+
+    /**
+     * Like {@link #findFrame(float)} for a time not before the start of the given frame. Playback
+     * usually stays on that frame or moves on by a few, so those are scanned before searching.
+     * Times from the duration on give the last frame.
+     */
+    public int findFrame(final int frame, final float time) {
+        int current = frame;
+        int scanned = 0;
+        while (current < endTimes.length - 1 && endTimes[current] <= time) {
+            if (++scanned > FRAMES_TO_SCAN) {
+                return findFrame(time);
+            }
+            current++;
+        }
+        return current;
+    }
+
+    /**
+     * @return the first frame ending after the given time
+     */
+    public int findFrame(final float time) {
+        int low = 0;
+        int high = endTimes.length - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (endTimes[middle] <= time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return an estimate of the memory used by the clip itself, without its frame images
+     */
+    long getByteSize() {
+        return 64 + 12L * images.length;
+    }
+
+    private static class Frame extends SimpleEntry<TransparentTextImage, Float> {
+
+        private Frame(final TransparentTextImage image, final Float time) {
+            super(image, time);
+        }
+
+    }
+
+}
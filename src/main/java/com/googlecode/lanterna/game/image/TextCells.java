@@ -0,0 +1,190 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.googlecode.lanterna.SGR;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.TextColor;
+
+/**
+ * Encodes {@link TextCharacter}s into primitives as stored by {@link PackedTextImage}.
+ * <p>
+ * A glyph {@code int} holds the character in its lower 16 bits, one bit per {@link SGR} above and
+ * the {@link #TRANSPARENT} bit. A colors {@code long} holds the foreground color code in its upper
+ * and the background color code in its lower 32 bits. A color code is either an
+ * {@link TextColor.ANSI} ordinal, a 24 bit RGB value or the index of any other color in a
+ * registry shared by all images.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public enum TextCells {
+
+    ;
+
+    public static final int CHARACTER_MASK = 0xFFFF;
+    public static final int MODIFIERS_SHIFT = 16;
+    public static final int TRANSPARENT = 1 << 31;
+
+    private static final SGR[] MODIFIERS = SGR.values();
+    private static final TextColor.ANSI[] ANSI_COLORS = TextColor.ANSI.values();
+
+    private static final int TAG_MASK = 0xFF000000;
+    private static final int ANSI_TAG = 0;
+    private static final int RGB_TAG = 1 << 24;
+    private static final int REGISTERED_TAG = 2 << 24;
+    private static final int VALUE_MASK = 0x00FFFFFF;
+
+    private static final Map<TextColor, Integer> REGISTERED_CODES = new ConcurrentHashMap<>();
+    private static final List<TextColor> REGISTERED_COLORS = new ArrayList<>();
+
+    public static final int DEFAULT_GLYPH = encodeGlyph(TextCharacter.DEFAULT_CHARACTER);
+    public static final long DEFAULT_COLORS = encodeColors(TextCharacter.DEFAULT_CHARACTER);
+
+    public static int encodeGlyph(final TextCharacter character) {
+        int glyph = character.getCharacter();
+        final EnumSet<SGR> modifiers = character.getModifiers();
+        if (!modifiers.isEmpty()) {
+            for (final SGR modifier : modifiers) {
+                glyph |= 1 << (MODIFIERS_SHIFT + modifier.ordinal());
+            }
+        }
+        if (character instanceof TransparentTextCharacter) {
+            glyph |= TRANSPARENT;
+        }
+        return glyph;
+    }
+
+    public static long encodeColors(final TextCharacter character) {
+        return colors(encodeColor(character.getForegroundColor()),
+                        encodeColor(character.getBackgroundColor()));
+    }
+
+    public static int encodeColor(final TextColor color) {
+        if (color instanceof TextColor.ANSI) {
+            return ANSI_TAG | ((TextColor.ANSI) color).ordinal();
+        }
+        if (color instanceof TextColor.RGB) {
+            final TextColor.RGB rgb = (TextColor.RGB) color;
+            return rgb(rgb.getRed(), rgb.getGreen(), rgb.getBlue());
+        }
+        final Integer code = REGISTERED_CODES.get(color);
+        if (code != null) {
+            return code;
+        }
+        return register(color);
+    }
+
+    public static int rgb(final int red, final int green, final int blue) {
+        return RGB_TAG | (red & 0xFF) << 16 | (green & 0xFF) << 8 | (blue & 0xFF);
+    }
+
+    public static TextColor decodeColor(final int code) {
+        switch (code & TAG_MASK) {
+            case ANSI_TAG:
+                return ANSI_COLORS[code & VALUE_MASK];
+            case RGB_TAG:
+                return TextCharacters.rgb(code & VALUE_MASK);
+            case REGISTERED_TAG:
+                synchronized (REGISTERED_COLORS) {
+                    return REGISTERED_COLORS.get(code & VALUE_MASK);
+                }
+            default:
+                throw new IllegalArgumentException(
+                                String.format("Invalid color code %08x.", code));
+        }
+    }
+
+    /**
+     * @return a shared {@link TextCharacter}, see {@link TextCharacters}
+     */
+    public static TextCharacter decode(final int glyph, final long colors) {
+        if (isTransparent(glyph)) {
+            // the background of a transparent character is never used
+            return TextCharacters.get(glyph, colors & 0xFFFFFFFF00000000L);
+        }
+        return TextCharacters.get(glyph, colors);
+    }
+
+    static TextCharacter create(final int glyph, final long colors) {
+        final char character = character(glyph);
+        final TextColor foreground = decodeColor(foreground(colors));
+        if (isTransparent(glyph)) {
+            return new TransparentTextCharacter(character, foreground);
+        }
+        final TextColor background = decodeColor(background(colors));
+        if ((glyph & ~TRANSPARENT) >>> MODIFIERS_SHIFT == 0) {
+            return new TextCharacter(character, foreground, background);
+        }
+        return new TextCharacter(character, foreground, background, modifiers(glyph));
+    }
+
+    public static EnumSet<SGR> modifiers(final int glyph) {
+        final EnumSet<SGR> modifiers = EnumSet.noneOf(SGR.class);
+        for (final SGR modifier : MODIFIERS) {
+            if ((glyph & 1 << (MODIFIERS_SHIFT + modifier.ordinal())) != 0) {
+                modifiers.add(modifier);
+            }
+        }
+        return modifiers;
+    }
+
+    public static char character(final int glyph) {
+        return (char) (glyph & CHARACTER_MASK);
+    }
+
+    /**
+     * @return the {@link SGR} bits of the glyph
+     */
+    public static int modifierBits(final int glyph) {
+        return (glyph & ~TRANSPARENT) >>> MODIFIERS_SHIFT;
+    }
+
+    public static boolean isTransparent(final int glyph) {
+        return (glyph & TRANSPARENT) != 0;
+    }
+
+    public static long colors(final int foreground, final int background) {
+        return (long) foreground << 32 | background & 0xFFFFFFFFL;
+    }
+
+    public static int foreground(final long colors) {
+        return (int) (colors >>> 32);
+    }
+
+    public static int background(final long colors) {
+        return (int) colors;
+    }
+
+    private static int register(final TextColor color) {
+        synchronized (REGISTERED_COLORS) {
+            final Integer code = REGISTERED_CODES.get(color);
+            if (code != null) {
+                return code;
+            }
+            REGISTERED_COLORS.add(color);
+            final int newCode = REGISTERED_TAG | (REGISTERED_COLORS.size() - 1);
+            REGISTERED_CODES.put(color, newCode);
+            return newCode;
+        }
+    }
+
+}
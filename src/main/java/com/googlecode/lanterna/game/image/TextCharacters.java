@@ -0,0 +1,121 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.TextColor;
+
+/**
+ * Hands out shared {@link TextCharacter} and {@link TextColor.RGB} instances for encoded cells.
+ * <p>
+ * Both caches are direct mapped with a fixed number of slots. A lookup whose slot holds another
+ * value replaces it, so memory stays bounded however many distinct cells are decoded. Entries are
+ * immutable and published through plain array writes, which makes lookups safe from any thread
+ * without locking.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public enum TextCharacters {
+
+    ;
+
+    private static final int CHARACTER_BITS = 14;
+    private static final int COLOR_BITS = 12;
+
+    private static final CharacterEntry[] CHARACTERS = new CharacterEntry[1 << CHARACTER_BITS];
+    private static final TextColor.RGB[] COLORS = new TextColor.RGB[1 << COLOR_BITS];
+
+    private static final LongAdder CHARACTER_HITS = new LongAdder();
+    private static final LongAdder CHARACTER_MISSES = new LongAdder();
+    private static final LongAdder COLOR_HITS = new LongAdder();
+    private static final LongAdder COLOR_MISSES = new LongAdder();
+
+    /**
+     * @return the shared {@link TextCharacter} for the given {@link TextCells} encoding
+     */
+    public static TextCharacter get(final int glyph, final long colors) {
+        final int slot = (int) ((glyph * 0x9E3779B97F4A7C15L ^ colors * 0xC2B2AE3D27D4EB4FL)
+                        >>> (64 - CHARACTER_BITS));
+        final CharacterEntry entry = CHARACTERS[slot];
+        if (entry != null && entry.glyph == glyph && entry.colors == colors) {
+            CHARACTER_HITS.increment();
+            return entry.character;
+        }
+        CHARACTER_MISSES.increment();
+        final TextCharacter character = TextCells.create(glyph, colors);
+        CHARACTERS[slot] = new CharacterEntry(glyph, colors, character);
+        return character;
+    }
+
+    /**
+     * @return the shared {@link TextColor.RGB} for the given 24 bit value
+     */
+    public static TextColor.RGB rgb(final int value) {
+        final int slot = (value * 0x9E3779B9) >>> (32 - COLOR_BITS);
+        final TextColor.RGB color = COLORS[slot];
+        if (color != null && color.getRed() == (value >> 16 & 0xFF)
+                        && color.getGreen() == (value >> 8 & 0xFF)
+                        && color.getBlue() == (value & 0xFF)) {
+            COLOR_HITS.increment();
+            return color;
+        }
+        COLOR_MISSES.increment();
+        final TextColor.RGB newColor = new TextColor.RGB(value >> 16 & 0xFF, value >> 8 & 0xFF,
+                        value & 0xFF);
+        COLORS[slot] = newColor;
+        return newColor;
+    }
+
+    public static long getCharacterHits() {
+        return CHARACTER_HITS.sum();
+    }
+
+    public static long getCharacterMisses() {
+        return CHARACTER_MISSES.sum();
+    }
+
+    public static long getColorHits() {
+        return COLOR_HITS.sum();
+    }
+
+    public static long getColorMisses() {
+        return COLOR_MISSES.sum();
+    }
+
+    public static void resetStatistics() {
+        CHARACTER_HITS.reset();
+        CHARACTER_MISSES.reset();
+        COLOR_HITS.reset();
+        COLOR_MISSES.reset();
+    }
+
+    private static final class CharacterEntry {
+
+        private final int glyph;
+        private final long colors;
+        private final TextCharacter character;
+
+        private CharacterEntry(final int glyph, final long colors, final TextCharacter character) {
+            this.glyph = glyph;
+            this.colors = colors;
+            this.character = character;
+        }
+
+    }
+
+}
@@ -28,8 +28,10 @@
 
 package com.googlecode.lanterna.game.image;
 
-import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.WritableRaster;
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -38,7 +40,9 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -47,10 +51,7 @@ import javax.imageio.ImageIO;
 import org.springframework.core.io.Resource;
 
 import com.googlecode.lanterna.TerminalSize;
-import com.googlecode.lanterna.TextCharacter;
-import com.googlecode.lanterna.TextColor.RGB;
-import com.googlecode.lanterna.graphics.TextGraphics;
-import com.googlecode.lanterna.graphics.TextImage;
+import com.googlecode.lanterna.TextColor;
 
 /**
  * @author Klaus Hauschild
@@ -64,7 +65,19 @@ public enum TextImageIO {
     public static final String FOREGROUND = "foreground.png";
     public static final String BACKGROUND = "background.png";
 
-    public static TextImage read(final Resource textImageResource) {
+    private static final int TRANSPARENT = -1;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int DEFAULT_COLOR = TextCells.encodeColor(TextColor.ANSI.DEFAULT);
+
+    /**
+     * Reads the image through the cache, images read more than once are shared.
+     */
+    public static TransparentTextImage read(final Resource textImageResource,
+                    final AssetCache assetCache) {
+        return assetCache.getImage(textImageResource);
+    }
+
+    public static TransparentTextImage read(final Resource textImageResource) {
         try {
             if (textImageResource.getFile().isDirectory()) {
                 // read from directory
@@ -89,7 +102,7 @@ public enum TextImageIO {
         }
     }
 
-    private static TextImage read(final InputStream textImageArchiveStream) {
+    private static TransparentTextImage read(final InputStream textImageArchiveStream) {
         List<String> glyphs = null;
         BufferedImage foreground = null;
         BufferedImage background = null;
@@ -120,37 +133,104 @@ public enum TextImageIO {
         return read(glyphs, foreground, background);
     }
 
-    private static void fillImage(final TextImage textImage, final List<String> glyphs,
+    private static void fillImage(final PackedTextImage textImage, final List<String> glyphs,
                     final BufferedImage foregroundImage, final BufferedImage backgroundImage) {
-        final TextGraphics textGraphics = textImage.newTextGraphics();
-        for (int row = 0; row < textImage.getSize().getRows(); row++) {
-            final String line = glyphs.get(row);
-            for (int column = 0; column < textImage.getSize().getColumns(); column++) {
-                final char glyph;
-                if (column >= line.length()) {
-                    glyph = ' ';
-                } else {
-                    glyph = line.charAt(column);
-                }
-                final RGB foreground = toRGB(foregroundImage, column, row);
-                final RGB background = toRGB(backgroundImage, column, row);
-                final TextCharacter character;
-                if (background != null) {
-                    character = new TextCharacter(glyph, foreground, background);
-                } else {
-                    character = new TransparentTextCharacter(glyph, foreground);
-                }
-                textGraphics.setCharacter(column, row, character);
+        checkSize("Foreground", foregroundImage, textImage);
+        checkSize("Background", backgroundImage, textImage);
+        final int[] foreground = readPixels(foregroundImage);
+        final int[] background = readPixels(backgroundImage);
+        final IntConsumer fillRow = row -> fillRow(textImage, glyphs.get(row), row, foreground,
+                        foregroundImage.getWidth(), background, backgroundImage.getWidth());
+        final IntStream rows = IntStream.range(0, textImage.getRows());
+        if (textImage.getColumns() * textImage.getRows() >= PARALLEL_THRESHOLD) {
+            rows.parallel().forEach(fillRow);
+        } else {
+            rows.forEach(fillRow);
+        }
+        textImage.changed();
+    }
+
+    private static void fillRow(final PackedTextImage textImage, final String line, final int row,
+                    final int[] foreground, final int foregroundWidth, final int[] background,
+                    final int backgroundWidth) {
+        final int[] glyphs = textImage.glyphs;
+        final long[] colors = textImage.colors;
+        final int columns = textImage.getColumns();
+        final int length = Math.min(line.length(), columns);
+        int index = row * columns;
+        int foregroundIndex = row * foregroundWidth;
+        int backgroundIndex = row * backgroundWidth;
+        for (int column = 0; column < columns; column++) {
+            final int glyph = column < length ? line.charAt(column) : ' ';
+            int foregroundColor = toColorCode(foreground[foregroundIndex++]);
+            if (foregroundColor == TRANSPARENT) {
+                foregroundColor = DEFAULT_COLOR;
             }
+            final int backgroundColor = toColorCode(background[backgroundIndex++]);
+            if (backgroundColor != TRANSPARENT) {
+                glyphs[index] = glyph;
+                colors[index] = TextCells.colors(foregroundColor, backgroundColor);
+            } else {
+                glyphs[index] = glyph | TextCells.TRANSPARENT;
+                colors[index] = TextCells.colors(foregroundColor, DEFAULT_COLOR);
+            }
+            index++;
+        }
+    }
+
+    private static void checkSize(final String name, final BufferedImage image,
+                    final PackedTextImage textImage) {
+        if (image.getWidth() < textImage.getColumns() || image.getHeight() < textImage.getRows()) {
+            throw new IllegalArgumentException(String.format(
+                            "%s image of %dx%d is smaller than the text of %dx%d.", name,
+                            image.getWidth(), image.getHeight(), textImage.getColumns(),
+                            textImage.getRows()));
+        }
+    }
+
+    /**
+     * @return all pixels of the image as ARGB values, row by row
+     */
+    private static int[] readPixels(final BufferedImage image) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final WritableRaster raster = image.getRaster();
+        if (raster.getParent() == null && raster.getSampleModelTranslateX() == 0
+                        && raster.getSampleModelTranslateY() == 0) {
+            switch (image.getType()) {
+                case BufferedImage.TYPE_INT_ARGB:
+                    final DataBufferInt intBuffer = (DataBufferInt) raster.getDataBuffer();
+                    if (intBuffer.getOffset() == 0) {
+                        return intBuffer.getData();
+                    }
+                    break;
+                case BufferedImage.TYPE_4BYTE_ABGR:
+                    final DataBufferByte byteBuffer = (DataBufferByte) raster.getDataBuffer();
+                    if (byteBuffer.getOffset() == 0) {
+                        return abgrToArgb(byteBuffer.getData(), width * height);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return image.getRGB(0, 0, width, height, null, 0, width);
+    }
+
+    private static int[] abgrToArgb(final byte[] abgr, final int pixels) {
+        final int[] argb = new int[pixels];
+        for (int pixel = 0, offset = 0; pixel < pixels; pixel++, offset += 4) {
+            argb[pixel] = (abgr[offset] & 0xFF) << 24 | (abgr[offset + 3] & 0xFF) << 16
+                            | (abgr[offset + 2] & 0xFF) << 8 | abgr[offset + 1] & 0xFF;
         }
+        return argb;
     }
 
-    private static RGB toRGB(final BufferedImage image, final int column, final int row) {
-        final Color color = new Color(image.getRGB(column, row), true);
-        if (color.getAlpha() == 0) {
-            return null;
+    private static int toColorCode(final int argb) {
+        if (argb >>> 24 == 0) {
+            return TRANSPARENT;
         }
-        return new RGB(color.getRed(), color.getGreen(), color.getBlue());
+        return TextCells.rgb(argb >> 16, argb >> 8, argb);
     }
 
     private static TerminalSize getImageSize(final List<String> lines) {
@@ -161,10 +241,10 @@ public enum TextImageIO {
         return new TerminalSize(columns, rows);
     }
 
-    private static TextImage read(final List<String> glyphs, final BufferedImage foreground,
+    static TransparentTextImage read(final List<String> glyphs, final BufferedImage foreground,
                     final BufferedImage background) {
         final TerminalSize imageSize = getImageSize(glyphs);
-        final TextImage textImage = new TransparentTextImage(imageSize);
+        final TransparentTextImage textImage = new TransparentTextImage(imageSize);
         fillImage(textImage, glyphs, foreground, background);
         return textImage;
     }
@@ -16,17 +16,20 @@ package com.googlecode.lanterna.game.image;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.AbstractMap.SimpleEntry;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.core.io.Resource;
 
 import com.google.gson.Gson;
 import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.game.Rectangle;
 import com.googlecode.lanterna.game.Render;
 import com.googlecode.lanterna.game.Update;
 import com.googlecode.lanterna.graphics.TextGraphics;
@@ -40,15 +43,46 @@ public class TextSprite implements Update, Render {
 
     private static final Gson GSON = new Gson();
 
-    private final List<State> states;
+    public static final Comparator<TextSprite> Z_ORDER = Comparator.comparingInt(TextSprite::getZ);
+
+    private static final Rectangle NOTHING = new Rectangle(0, 0, 0, 0);
+
+    public static final int NO_STATE = -1;
+
+    private final State[] states;
+    private final Map<String, Integer> stateIds = new HashMap<>();
+    private int currentStateId;
     private State currentState;
+    private TerminalPosition position = TerminalPosition.TOP_LEFT_CORNER;
+    private int z;
+    private Rectangle dirtyRectangle;
 
     public TextSprite(final List<State> states) {
-        this.states = states;
-        currentState = this.states.get(0);
+        this.states = states.toArray(new State[0]);
+        for (int id = this.states.length - 1; id >= 0; id--) {
+            // the first state wins for duplicate names
+            stateIds.put(this.states[id].getName(), id);
+        }
+        currentState = this.states[0];
+        dirtyRectangle = getBounds();
     }
 
     public static TextSprite read(final Resource spriteResource) {
+        return read(spriteResource, TextImageIO::read, TextAnimation::read);
+    }
+
+    /**
+     * Reads the sprite, sharing its images and animation clips through the cache. The animations
+     * of each sprite still play back independently.
+     */
+    public static TextSprite read(final Resource spriteResource, final AssetCache assetCache) {
+        return read(spriteResource, assetCache::getImage,
+                        animationResource -> TextAnimation.read(animationResource, assetCache));
+    }
+
+    private static TextSprite read(final Resource spriteResource,
+                    final Function<Resource, TransparentTextImage> imageReader,
+                    final Function<Resource, TextAnimation> animationReader) {
         try {
             @SuppressWarnings("unchecked")
             final Map<String, Object> definition = GSON.fromJson(
@@ -60,22 +94,21 @@ public class TextSprite implements Update, Render {
                             .map(stateDefinition -> {
                                 try {
                                     final String name = stateDefinition.get("name").toString();
-                                    final Object imageOrAnimation;
                                     final Object imageDefinition = stateDefinition.get("image");
                                     final Object animationDefinition =
                                                     stateDefinition.get("animation");
                                     if (imageDefinition != null) {
-                                        imageOrAnimation = TextImageIO.read(spriteResource
+                                        return new State(name, imageReader.apply(spriteResource
                                                         .createRelative(imageDefinition
-                                                                        .toString()));
-                                    } else if (animationDefinition != null) {
-                                        imageOrAnimation = TextAnimation.read(spriteResource
-                                                        .createRelative(animationDefinition
-                                                                        .toString()));
-                                    } else {
-                                        throw new IllegalArgumentException();
+                                                                        .toString())));
+                                    }
+                                    if (animationDefinition != null) {
+                                        return new State(name, animationReader.apply(
+                                                        spriteResource.createRelative(
+                                                                        animationDefinition
+                                                                                        .toString())));
                                     }
-                                    return new State(name, imageOrAnimation);
+                                    throw new IllegalArgumentException();
                                 } catch (final IOException exception) {
                                     throw new RuntimeException(exception);
                                 }
@@ -87,52 +120,181 @@ public class TextSprite implements Update, Render {
         }
     }
 
+    /**
+     * Draws the current image or animation frame at the position of the sprite, unless it lies
+     * completely outside of the given {@link TextGraphics}.
+     */
     @Override
     public void render(final TextGraphics textGraphics) {
-        // TODO respect postion
+        render(textGraphics, TerminalPosition.TOP_LEFT_CORNER);
+    }
 
-        currentImage() //
-                        .ifPresent(image -> ((TransparentTextImage) image)
-                                        .drawImageWithTransparency(textGraphics,
-                                                        TerminalPosition.TOP_LEFT_CORNER));
-        currentAnimation() //
-                        .ifPresent(animation -> animation.render(textGraphics));
+    /**
+     * Renders the sprite relative to the given origin, which is drawn to the top left corner of
+     * the {@link TextGraphics}.
+     */
+    public void render(final TextGraphics textGraphics, final TerminalPosition origin) {
+        final TransparentTextImage image = currentFrame();
+        final TerminalSize size = image.getSize();
+        final TerminalSize viewSize = textGraphics.getSize();
+        final int column = position.getColumn() - origin.getColumn();
+        final int row = position.getRow() - origin.getRow();
+        if (column >= viewSize.getColumns() || row >= viewSize.getRows()
+                        || column + size.getColumns() <= 0 || row + size.getRows() <= 0) {
+            return;
+        }
+        image.drawImageWithTransparency(textGraphics, column, row);
     }
 
     @Override
     public void update(final float elapsed) {
-        currentAnimation() //
-                        .ifPresent(animation -> animation.update(elapsed));
+        final TextAnimation animation = currentState.animation;
+        if (animation == null) {
+            return;
+        }
+        final TextImage previousFrame = animation.getCurrentImage();
+        animation.update(elapsed);
+        if (animation.getCurrentImage() != previousFrame) {
+            markDirty(previousFrame);
+        }
+    }
+
+    /**
+     * @return the id of the state with the given name or {@link #NO_STATE}
+     */
+    public int getStateId(final String name) {
+        final Integer id = stateIds.get(name);
+        return id != null ? id : NO_STATE;
     }
 
+    /**
+     * @return the id of the current state
+     */
+    public int getState() {
+        return currentStateId;
+    }
+
+    /**
+     * Switches to the state with the given name, unknown names keep the current state. Prefer
+     * {@link #updateState(int)} with an id looked up once by {@link #getStateId(String)}.
+     */
     public void updateState(final String name) {
-        currentState = states.stream() //
-                        .filter(state -> Objects.equals(state.getKey(), name)) //
-                        .findFirst() //
-                        .orElse(currentState);
+        updateState(getStateId(name));
     }
 
-    private Optional<TextImage> currentImage() {
-        final Object imageOrAnimation = currentState.getValue();
-        if (imageOrAnimation instanceof TextImage) {
-            return Optional.of((TextImage) imageOrAnimation);
+    /**
+     * Switches to the state with the given id, {@link #NO_STATE} keeps the current state.
+     *
+     * @throws IllegalArgumentException if there is no state with the id
+     */
+    public void updateState(final int id) {
+        if (id == NO_STATE || id == currentStateId) {
+            return;
+        }
+        if (id < 0 || id >= states.length) {
+            throw new IllegalArgumentException(String.format("Unknown state id %d.", id));
         }
-        return Optional.empty();
+        final TextImage previousFrame = currentFrame();
+        currentStateId = id;
+        currentState = states[id];
+        if (currentFrame() != previousFrame) {
+            markDirty(previousFrame);
+        }
+    }
+
+    public TerminalPosition getPosition() {
+        return position;
     }
 
-    private Optional<TextAnimation> currentAnimation() {
-        final Object imageOrAnimation = currentState.getValue();
-        if (imageOrAnimation instanceof TextAnimation) {
-            return Optional.of((TextAnimation) imageOrAnimation);
+    public void setPosition(final TerminalPosition position) {
+        if (position.equals(this.position)) {
+            return;
         }
-        return Optional.empty();
+        final TextImage frame = currentFrame();
+        dirtyRectangle = dirtyRectangle.union(new Rectangle(this.position, frame.getSize()));
+        this.position = position;
+        dirtyRectangle = dirtyRectangle.union(new Rectangle(position, frame.getSize()));
     }
 
-    private static class State extends SimpleEntry<String, Object> {
+    public int getZ() {
+        return z;
+    }
 
-        private State(final String name, final Object imageOrAnimation) {
-            super(name, imageOrAnimation);
+    /**
+     * Sprites with a higher z are drawn above sprites with a lower z, see {@link #Z_ORDER}.
+     */
+    public void setZ(final int z) {
+        if (z != this.z) {
+            this.z = z;
+            dirtyRectangle = dirtyRectangle.union(getBounds());
         }
     }
 
+    /**
+     * @return the cells currently covered by the sprite
+     */
+    public Rectangle getBounds() {
+        return new Rectangle(position, currentFrame().getSize());
+    }
+
+    /**
+     * @return the cells which need to be redrawn since the last
+     *         {@link #clearDirtyRectangle() clear}, covering old and new bounds of the sprite
+     */
+    public Optional<Rectangle> getDirtyRectangle() {
+        if (dirtyRectangle.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(dirtyRectangle);
+    }
+
+    public void clearDirtyRectangle() {
+        dirtyRectangle = NOTHING;
+    }
+
+    private void markDirty(final TextImage previousFrame) {
+        dirtyRectangle = dirtyRectangle
+                        .union(new Rectangle(position, previousFrame.getSize()))
+                        .union(getBounds());
+    }
+
+    /**
+     * @return the image of the current state or the current frame of its animation
+     */
+    public TransparentTextImage getCurrentImage() {
+        return currentFrame();
+    }
+
+    private TransparentTextImage currentFrame() {
+        final TextAnimation animation = currentState.animation;
+        return animation != null ? animation.getCurrentImage() : currentState.image;
+    }
+
+    /**
+     * A named state of a sprite showing either an image or an animation.
+     */
+    public static final class State {
+
+        private final String name;
+        private final TransparentTextImage image;
+        private final TextAnimation animation;
+
+        public State(final String name, final TransparentTextImage image) {
+            this.name = name;
+            this.image = image;
+            animation = null;
+        }
+
+        public State(final String name, final TextAnimation animation) {
+            this.name = name;
+            image = null;
+            this.animation = animation;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
 }
@@ -14,18 +14,30 @@
 
 package com.googlecode.lanterna.game.image;
 
+import java.util.Arrays;
+
 import com.googlecode.lanterna.TerminalPosition;
 import com.googlecode.lanterna.TerminalSize;
-import com.googlecode.lanterna.TextCharacter;
-import com.googlecode.lanterna.TextColor;
-import com.googlecode.lanterna.graphics.BasicTextImage;
+import com.googlecode.lanterna.game.Rectangle;
 import com.googlecode.lanterna.graphics.TextGraphics;
 
 /**
  * @author Klaus Hauschild
  * @since 3.0.1
  */
-public class TransparentTextImage extends BasicTextImage {
+public class TransparentTextImage extends PackedTextImage {
+
+    private static final long FOREGROUND_MASK = 0xFFFFFFFF00000000L;
+
+    private static final byte OPAQUE = 0;
+    private static final byte PARTIAL = 1;
+    private static final byte EMPTY = 2;
+
+    // per row runs of opaque, partially transparent and empty cells, rebuilt after changes
+    private int[] rowSpans;
+    private int[] spanStarts;
+    private byte[] spanKinds;
+    private boolean spansValid;
 
     public TransparentTextImage(final TerminalSize size) {
         super(size);
@@ -37,6 +49,15 @@ public class TransparentTextImage extends BasicTextImage {
                         getSize());
     }
 
+    /**
+     * Draws the whole image with its top left corner at the given cell, without allocating a
+     * position for callers drawing many images per frame.
+     */
+    public void drawImageWithTransparency(final TextGraphics textGraphics, final int column,
+                    final int row) {
+        drawCropped(textGraphics, 0, rows, 0, columns, row, column);
+    }
+
     public void drawImageWithTransparency(final TextGraphics textGraphics, TerminalPosition topLeft,
                     TerminalPosition sourceImageTopLeft, TerminalSize sourceImageSize) {
 
@@ -64,6 +85,11 @@ public class TransparentTextImage extends BasicTextImage {
         int diffRow = topLeft.getRow() - sourceImageTopLeft.getRow();
         int diffColumn = topLeft.getColumn() - sourceImageTopLeft.getColumn();
 
+        drawCropped(textGraphics, fromRow, untilRow, fromColumn, untilColumn, diffRow, diffColumn);
+    }
+
+    private void drawCropped(final TextGraphics textGraphics, int fromRow, int untilRow,
+                    int fromColumn, int untilColumn, final int diffRow, final int diffColumn) {
         // top/left-crop at target(TextGraphics) rectangle: (only matters, if topLeft has a negative coordinate)
         fromRow = Math.max(fromRow, -diffRow);
         fromColumn = Math.max(fromColumn, -diffColumn);
@@ -72,22 +98,178 @@ public class TransparentTextImage extends BasicTextImage {
         untilRow = Math.min(untilRow, textGraphics.getSize().getRows() - diffRow);
         untilColumn = Math.min(untilColumn, textGraphics.getSize().getColumns() - diffColumn);
 
+        final PackedTextImage target;
+        if (textGraphics instanceof PackedTextGraphics) {
+            // packed targets are written directly, so their clip has to be applied here
+            final PackedTextGraphics packedGraphics = (PackedTextGraphics) textGraphics;
+            final Rectangle clip = packedGraphics.getClip();
+            fromRow = Math.max(fromRow, clip.getRow() - diffRow);
+            untilRow = Math.min(untilRow, clip.getRow() + clip.getRows() - diffRow);
+            fromColumn = Math.max(fromColumn, clip.getColumn() - diffColumn);
+            untilColumn = Math.min(untilColumn, clip.getColumn() + clip.getColumns() - diffColumn);
+            target = packedGraphics.getImage();
+        } else {
+            target = null;
+        }
+
         if (fromRow >= untilRow || fromColumn >= untilColumn) {
             return;
         }
+        if (!spansValid) {
+            buildSpans();
+        }
         for (int row = fromRow; row < untilRow; row++) {
-            for (int column = fromColumn; column < untilColumn; column++) {
-                TextCharacter character = getCharacterAt(column, row);
-                if (character instanceof TransparentTextCharacter) {
-                    final TextColor backgroundColor =
-                                    textGraphics.getCharacter(column + diffColumn, row + diffRow)
-                                                    .getBackgroundColor();
-                    character = new TextCharacter(character.getCharacter(),
-                                    character.getForegroundColor(), backgroundColor);
+            final int lastSpan = rowSpans[row + 1];
+            // wide images are drawn partially, start at the first visible span
+            for (int span = findSpan(row, fromColumn); span < lastSpan; span++) {
+                if (spanStarts[span] >= untilColumn) {
+                    break;
+                }
+                final int from = Math.max(spanStarts[span], fromColumn);
+                final int until = Math.min(
+                                span + 1 < lastSpan ? spanStarts[span + 1] : columns, untilColumn);
+                if (from >= until) {
+                    continue;
+                }
+                switch (spanKinds[span]) {
+                    case OPAQUE:
+                        if (target != null) {
+                            copyOpaque(target, row, from, until, diffRow, diffColumn);
+                        } else {
+                            drawOpaque(textGraphics, row, from, until, diffRow, diffColumn);
+                        }
+                        break;
+                    case PARTIAL:
+                        if (target != null) {
+                            mergePartial(target, row, from, until, diffRow, diffColumn);
+                        } else {
+                            drawPartial(textGraphics, row, from, until, diffRow, diffColumn);
+                        }
+                        break;
+                    default:
+                        // empty cells leave the target untouched
+                        break;
+                }
+            }
+        }
+        if (target != null) {
+            target.changed();
+        }
+    }
+
+    @Override
+    void changed() {
+        spansValid = false;
+    }
+
+    private void buildSpans() {
+        int[] starts = new int[rows + 1];
+        byte[] kinds = new byte[rows + 1];
+        final int[] offsets = new int[rows + 1];
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            offsets[row] = count;
+            byte previousKind = -1;
+            for (int column = 0; column < columns; column++) {
+                final byte kind = kind(glyphs[row * columns + column]);
+                if (kind != previousKind) {
+                    if (count == starts.length) {
+                        starts = Arrays.copyOf(starts, count * 2);
+                        kinds = Arrays.copyOf(kinds, count * 2);
+                    }
+                    starts[count] = column;
+                    kinds[count] = kind;
+                    count++;
+                    previousKind = kind;
                 }
-                textGraphics.setCharacter(column + diffColumn, row + diffRow, character);
             }
         }
+        offsets[rows] = count;
+        rowSpans = offsets;
+        spanStarts = Arrays.copyOf(starts, count);
+        spanKinds = Arrays.copyOf(kinds, count);
+        spansValid = true;
+    }
+
+    /**
+     * @return the span of the row containing the column
+     */
+    private int findSpan(final int row, final int column) {
+        int low = rowSpans[row];
+        int high = rowSpans[row + 1] - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (spanStarts[middle] <= column) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private static byte kind(final int glyph) {
+        if (!TextCells.isTransparent(glyph)) {
+            return OPAQUE;
+        }
+        if (isEmpty(glyph)) {
+            return EMPTY;
+        }
+        return PARTIAL;
+    }
+
+    /**
+     * @return whether a transparent glyph leaves the cell beneath it untouched
+     */
+    static boolean isEmpty(final int glyph) {
+        return TextCells.character(glyph) == ' ' && TextCells.modifierBits(glyph) == 0;
+    }
+
+    private void copyOpaque(final PackedTextImage target, final int row, final int from,
+                    final int until, final int diffRow, final int diffColumn) {
+        final int source = row * columns + from;
+        final int destination = (row + diffRow) * target.columns + from + diffColumn;
+        System.arraycopy(glyphs, source, target.glyphs, destination, until - from);
+        System.arraycopy(colors, source, target.colors, destination, until - from);
+    }
+
+    private void drawOpaque(final TextGraphics textGraphics, final int row, final int from,
+                    final int until, final int diffRow, final int diffColumn) {
+        for (int column = from; column < until; column++) {
+            final int index = row * columns + column;
+            textGraphics.setCharacter(column + diffColumn, row + diffRow,
+                            TextCells.decode(glyphs[index], colors[index]));
+        }
+    }
+
+    private void mergePartial(final PackedTextImage target, final int row, final int from,
+                    final int until, final int diffRow, final int diffColumn) {
+        final int[] targetGlyphs = target.glyphs;
+        final long[] targetColors = target.colors;
+        int source = row * columns + from;
+        int destination = (row + diffRow) * target.columns + from + diffColumn;
+        for (int column = from; column < until; column++) {
+            // keep the background and transparency of the target
+            targetGlyphs[destination] = glyphs[source] & ~TextCells.TRANSPARENT
+                            | targetGlyphs[destination] & TextCells.TRANSPARENT;
+            targetColors[destination] = colors[source] & FOREGROUND_MASK
+                            | targetColors[destination] & ~FOREGROUND_MASK;
+            source++;
+            destination++;
+        }
+    }
+
+    private void drawPartial(final TextGraphics textGraphics, final int row, final int from,
+                    final int until, final int diffRow, final int diffColumn) {
+        for (int column = from; column < until; column++) {
+            final int index = row * columns + column;
+            final int background = TextCells.encodeColor(textGraphics
+                            .getCharacter(column + diffColumn, row + diffRow).getBackgroundColor());
+            textGraphics.setCharacter(column + diffColumn, row + diffRow,
+                            TextCells.decode(glyphs[index] & ~TextCells.TRANSPARENT,
+                                            colors[index] & FOREGROUND_MASK
+                                                            | background & 0xFFFFFFFFL));
+        }
     }
 
 }
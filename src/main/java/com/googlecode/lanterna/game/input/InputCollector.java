@@ -0,0 +1,102 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.input;
+
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
+
+import com.googlecode.lanterna.input.InputProvider;
+import com.googlecode.lanterna.input.KeyStroke;
+
+/**
+ * Drains an {@link InputProvider} on its own thread into an {@link InputRing}, so input is
+ * collected and time stamped independently of the frame rate.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class InputCollector {
+
+    private static final long IDLE_NANOS = 1_000_000L;
+
+    private final InputProvider inputProvider;
+    private final InputRing inputRing;
+
+    private Thread thread;
+    private volatile boolean running;
+    private volatile long dropped;
+    private volatile Exception failure;
+
+    public InputCollector(final InputProvider inputProvider, final InputRing inputRing) {
+        this.inputProvider = inputProvider;
+        this.inputRing = inputRing;
+    }
+
+    public void start(final String name) {
+        running = true;
+        thread = new Thread(this::collect, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (thread == null || thread == Thread.currentThread()) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * @return the number of key strokes lost because the ring was full
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Rethrows on the calling thread the failure that stopped collecting, if there was one.
+     */
+    public void checkFailure() throws IOException {
+        final Exception failure = this.failure;
+        if (failure != null) {
+            throw new IOException("Collecting input failed.", failure);
+        }
+    }
+
+    private void collect() {
+        try {
+            while (running) {
+                final KeyStroke keyStroke = inputProvider.pollInput();
+                if (keyStroke == null) {
+                    LockSupport.parkNanos(this, IDLE_NANOS);
+                } else if (!inputRing.offer(keyStroke, System.nanoTime())) {
+                    dropped++;
+                }
+            }
+        } catch (final IOException | RuntimeException exception) {
+            // the game loop picks the failure up by checkFailure()
+            failure = exception;
+            running = false;
+        }
+    }
+
+}
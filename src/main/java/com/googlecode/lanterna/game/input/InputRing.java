@@ -0,0 +1,96 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.googlecode.lanterna.input.KeyStroke;
+
+/**
+ * Bounded lock-free queue of time stamped {@link KeyStroke}s for exactly one producer and exactly
+ * one consumer thread.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class InputRing {
+
+    private final KeyStroke[] keyStrokes;
+    private final long[] timestamps;
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    private long timestamp;
+
+    /**
+     * @param capacity rounded up to the next power of two
+     */
+    public InputRing(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1);
+        keyStrokes = new KeyStroke[size];
+        timestamps = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Called by the producer only.
+     *
+     * @return {@code false} if the ring is full and the key stroke was dropped
+     */
+    public boolean offer(final KeyStroke keyStroke, final long timestamp) {
+        final long currentTail = tail.get();
+        if (currentTail - head.get() == keyStrokes.length) {
+            return false;
+        }
+        final int index = (int) currentTail & mask;
+        keyStrokes[index] = keyStroke;
+        timestamps[index] = timestamp;
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Called by the consumer only.
+     *
+     * @return the oldest key stroke or {@code null} if the ring is empty
+     */
+    public KeyStroke poll() {
+        final long currentHead = head.get();
+        if (currentHead == tail.get()) {
+            return null;
+        }
+        final int index = (int) currentHead & mask;
+        final KeyStroke keyStroke = keyStrokes[index];
+        keyStrokes[index] = null;
+        timestamp = timestamps[index];
+        head.lazySet(currentHead + 1);
+        return keyStroke;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} the key stroke last returned by {@link #poll()} was
+     *         collected at
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.input;
+
+import java.util.Arrays;
+
+import com.googlecode.lanterna.input.KeyStroke;
+import com.googlecode.lanterna.input.KeyType;
+
+/**
+ * Per-frame snapshot of which keys are held. Terminals only report key presses and their auto
+ * repeats, so a key counts as held as long as it was reported within the hold timeout before the
+ * snapshot. Recording and querying neither lock nor allocate in steady state; both have to happen
+ * on the game thread.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class KeyState {
+
+    /**
+     * A bit longer than the usual initial auto repeat delay of keyboards.
+     */
+    public static final long DEFAULT_HOLD_NANOS = 550_000_000L;
+
+    private static final long NEVER = Long.MIN_VALUE / 2;
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final long[] keyTypes = newTable(KeyType.values().length);
+    private final long[][] characterPages = new long[(Character.MAX_VALUE + 1) >> PAGE_BITS][];
+
+    private long holdNanos = DEFAULT_HOLD_NANOS;
+    private long snapshotTime = NEVER;
+    private long previousSnapshotTime = NEVER;
+
+    private static long[] newTable(final int size) {
+        final long[] table = new long[size];
+        Arrays.fill(table, NEVER);
+        return table;
+    }
+
+    public void setHoldNanos(final long holdNanos) {
+        this.holdNanos = holdNanos;
+    }
+
+    public void record(final KeyStroke keyStroke, final long timestamp) {
+        if (keyStroke.getKeyType() == KeyType.Character) {
+            final char character = keyStroke.getCharacter();
+            long[] page = characterPages[character >> PAGE_BITS];
+            if (page == null) {
+                page = newTable(PAGE_SIZE);
+                characterPages[character >> PAGE_BITS] = page;
+            }
+            page[character & PAGE_MASK] = timestamp;
+        } else {
+            keyTypes[keyStroke.getKeyType().ordinal()] = timestamp;
+        }
+    }
+
+    /**
+     * Fixes the time all queries refer to until the next snapshot.
+     */
+    public void snapshot(final long now) {
+        previousSnapshotTime = snapshotTime;
+        snapshotTime = now;
+    }
+
+    public boolean isHeld(final KeyType keyType) {
+        return isHeld(keyTypes[keyType.ordinal()]);
+    }
+
+    public boolean isHeld(final char character) {
+        return isHeld(lastSeen(character));
+    }
+
+    /**
+     * @return {@code true} if the key was reported since the previous snapshot
+     */
+    public boolean isPressed(final KeyType keyType) {
+        return isPressed(keyTypes[keyType.ordinal()]);
+    }
+
+    /**
+     * @return {@code true} if the key was reported since the previous snapshot
+     */
+    public boolean isPressed(final char character) {
+        return isPressed(lastSeen(character));
+    }
+
+    private long lastSeen(final char character) {
+        final long[] page = characterPages[character >> PAGE_BITS];
+        return page == null ? NEVER : page[character & PAGE_MASK];
+    }
+
+    private boolean isHeld(final long lastSeen) {
+        return lastSeen != NEVER && lastSeen <= snapshotTime
+                        && snapshotTime - lastSeen <= holdNanos;
+    }
+
+    private boolean isPressed(final long lastSeen) {
+        return lastSeen > previousSnapshotTime && lastSeen <= snapshotTime;
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.scene;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.game.Rectangle;
+import com.googlecode.lanterna.game.image.TextSprite;
+import com.googlecode.lanterna.game.image.TransparentTextImage;
+import com.googlecode.lanterna.graphics.TextGraphics;
+import com.googlecode.lanterna.graphics.TextImage;
+
+/**
+ * Looks at a part of a world which may be far larger than the screen.
+ * <p>
+ * The camera position is the world cell shown in the top left corner of the viewport, the
+ * viewport is the {@link TextGraphics} drawn into. To show the world in a part of the screen only,
+ * pass a {@link TextGraphics#newTextGraphics(TerminalPosition, TerminalSize) sub graphics}. Images
+ * and sprites are cropped to the view before drawing, so only visible cells are touched no matter
+ * how large the world is.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class Camera {
+
+    private TerminalPosition position = TerminalPosition.TOP_LEFT_CORNER;
+    private Rectangle bounds;
+
+    public TerminalPosition getPosition() {
+        return position;
+    }
+
+    public Camera setPosition(final TerminalPosition position) {
+        this.position = position;
+        return this;
+    }
+
+    public Camera moveBy(final int columns, final int rows) {
+        return setPosition(position.withRelative(columns, rows));
+    }
+
+    /**
+     * Moves the camera so that the given world position is in the middle of the viewport.
+     */
+    public Camera centerOn(final TerminalPosition target, final TerminalSize viewportSize) {
+        return setPosition(new TerminalPosition(target.getColumn() - viewportSize.getColumns() / 2,
+                        target.getRow() - viewportSize.getRows() / 2));
+    }
+
+    /**
+     * Keeps the view inside of the given world bounds, {@code null} removes the limit.
+     */
+    public Camera setBounds(final Rectangle bounds) {
+        this.bounds = bounds;
+        return this;
+    }
+
+    /**
+     * @return the world cells shown in a viewport of the given size
+     */
+    public Rectangle getView(final TerminalSize viewportSize) {
+        if (bounds == null) {
+            return new Rectangle(position, viewportSize);
+        }
+        final int column = clamp(position.getColumn(), bounds.getColumn(),
+                        bounds.getColumn() + bounds.getColumns() - viewportSize.getColumns());
+        final int row = clamp(position.getRow(), bounds.getRow(),
+                        bounds.getRow() + bounds.getRows() - viewportSize.getRows());
+        return new Rectangle(column, row, viewportSize.getColumns(), viewportSize.getRows());
+    }
+
+    public boolean isVisible(final Rectangle worldBounds, final TerminalSize viewportSize) {
+        return getView(viewportSize).intersects(worldBounds);
+    }
+
+    public TerminalPosition toScreen(final TerminalPosition worldPosition,
+                    final TerminalSize viewportSize) {
+        final Rectangle view = getView(viewportSize);
+        return new TerminalPosition(worldPosition.getColumn() - view.getColumn(),
+                        worldPosition.getRow() - view.getRow());
+    }
+
+    public TerminalPosition toWorld(final TerminalPosition screenPosition,
+                    final TerminalSize viewportSize) {
+        final Rectangle view = getView(viewportSize);
+        return new TerminalPosition(screenPosition.getColumn() + view.getColumn(),
+                        screenPosition.getRow() + view.getRow());
+    }
+
+    /**
+     * Draws the visible part of an image placed at the given world position.
+     */
+    public void draw(final TextGraphics viewport, final TextImage image,
+                    final TerminalPosition worldPosition) {
+        final Rectangle view = getView(viewport.getSize());
+        final Rectangle visible = new Rectangle(worldPosition, image.getSize()).intersection(view);
+        if (visible.isEmpty()) {
+            return;
+        }
+        final TerminalPosition screenPosition = new TerminalPosition(
+                        visible.getColumn() - view.getColumn(), visible.getRow() - view.getRow());
+        final TerminalPosition sourcePosition =
+                        new TerminalPosition(visible.getColumn() - worldPosition.getColumn(),
+                                        visible.getRow() - worldPosition.getRow());
+        if (image instanceof TransparentTextImage) {
+            ((TransparentTextImage) image).drawImageWithTransparency(viewport, screenPosition,
+                            sourcePosition, visible.getSize());
+        } else {
+            viewport.drawImage(screenPosition, image, sourcePosition, visible.getSize());
+        }
+    }
+
+    /**
+     * Draws a sprite at its world position, sprites outside of the view are skipped.
+     */
+    public void draw(final TextGraphics viewport, final TextSprite sprite) {
+        sprite.render(viewport, getView(viewport.getSize()).getPosition());
+    }
+
+    private static int clamp(final int value, final int minimum, final int maximum) {
+        return Math.max(minimum, Math.min(value, Math.max(minimum, maximum)));
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.scene;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.game.Rectangle;
+import com.googlecode.lanterna.game.Render;
+import com.googlecode.lanterna.game.image.PackedTextImage;
+import com.googlecode.lanterna.game.image.PackedTextImage.PackedTextGraphics;
+import com.googlecode.lanterna.graphics.TextGraphics;
+
+/**
+ * Draws z ordered layers, caching the composite of all static layers.
+ * <p>
+ * Static layers are flattened into an image which is only recomposed where it has been
+ * {@link Layer#invalidate(Rectangle) invalidated}; while recomposing, static layers draw through
+ * a clipped {@link TextGraphics} so cells outside of the dirty areas stay untouched. Overlapping
+ * dirty areas are merged, separate ones are recomposed one by one, up to a few of them before all
+ * are merged into one. Every frame the
+ * composite is copied to the target and the dynamic layers are drawn on top of it. Layers are
+ * ordered by z within each kind, dynamic layers are always above static ones.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class LayerCompositor implements Render {
+
+    private static final int MAX_DIRTY_AREAS = 8;
+
+    private final List<Layer> staticLayers = new ArrayList<>();
+    private final List<Layer> dynamicLayers = new ArrayList<>();
+
+    private PackedTextImage composite;
+    private final List<Rectangle> dirty = new ArrayList<>();
+    private int recomposedCells;
+
+    public Layer addStatic(final int z, final Render render) {
+        return add(staticLayers, new Layer(z, render, true));
+    }
+
+    public Layer addDynamic(final int z, final Render render) {
+        return add(dynamicLayers, new Layer(z, render, false));
+    }
+
+    public void remove(final Layer layer) {
+        if (layer.staticLayer) {
+            staticLayers.remove(layer);
+            invalidate();
+        } else {
+            dynamicLayers.remove(layer);
+        }
+    }
+
+    /**
+     * Recomposes all static layers with the next frame.
+     */
+    public void invalidate() {
+        if (composite != null) {
+            invalidate(new Rectangle(TerminalPosition.TOP_LEFT_CORNER, composite.getSize()));
+        }
+    }
+
+    public void invalidate(final Rectangle area) {
+        if (area.isEmpty()) {
+            return;
+        }
+        Rectangle merged = area;
+        boolean merging = true;
+        while (merging) {
+            // a merged area may reach areas it did not overlap before
+            merging = false;
+            for (int index = dirty.size() - 1; index >= 0; index--) {
+                if (dirty.get(index).intersects(merged)) {
+                    merged = merged.union(dirty.remove(index));
+                    merging = true;
+                }
+            }
+        }
+        dirty.add(merged);
+        if (dirty.size() > MAX_DIRTY_AREAS) {
+            for (int index = dirty.size() - 1; index > 0; index--) {
+                dirty.set(0, dirty.get(0).union(dirty.remove(index)));
+            }
+        }
+    }
+
+    /**
+     * @return the number of cells recomposed from static layers so far
+     */
+    public int getRecomposedCells() {
+        return recomposedCells;
+    }
+
+    @Override
+    public void render(final TextGraphics textGraphics) {
+        final TerminalSize size = textGraphics.getSize();
+        if (composite == null || !composite.getSize().equals(size)) {
+            composite = new PackedTextImage(size);
+            dirty.clear();
+            dirty.add(new Rectangle(TerminalPosition.TOP_LEFT_CORNER, size));
+        }
+        for (final Rectangle area : dirty) {
+            recompose(area);
+        }
+        dirty.clear();
+        if (textGraphics instanceof PackedTextGraphics
+                        && ((PackedTextGraphics) textGraphics).getClip().getSize().equals(size)) {
+            composite.copyTo(((PackedTextGraphics) textGraphics).getImage());
+        } else {
+            textGraphics.drawImage(TerminalPosition.TOP_LEFT_CORNER, composite);
+        }
+        for (final Layer layer : dynamicLayers) {
+            layer.render.render(textGraphics);
+        }
+    }
+
+    private void recompose(final Rectangle area) {
+        final PackedTextGraphics graphics = composite.newTextGraphics(area);
+        final Rectangle clip = graphics.getClip();
+        graphics.fillRectangle(clip.getPosition(), clip.getSize(), TextCharacter.DEFAULT_CHARACTER);
+        for (final Layer layer : staticLayers) {
+            layer.render.render(graphics);
+        }
+        recomposedCells += clip.getColumns() * clip.getRows();
+    }
+
+    private Layer add(final List<Layer> layers, final Layer layer) {
+        layers.add(layer);
+        layers.sort(Comparator.comparingInt(Layer::getZ));
+        if (layer.staticLayer) {
+            invalidate();
+        }
+        return layer;
+    }
+
+    /**
+     * A layer of a {@link LayerCompositor}.
+     */
+    public final class Layer {
+
+        private final int z;
+        private final Render render;
+        private final boolean staticLayer;
+
+        private Layer(final int z, final Render render, final boolean staticLayer) {
+            this.z = z;
+            this.render = render;
+            this.staticLayer = staticLayer;
+        }
+
+        public int getZ() {
+            return z;
+        }
+
+        public boolean isStatic() {
+            return staticLayer;
+        }
+
+        /**
+         * Marks the whole layer as changed, only meaningful for static layers.
+         */
+        public void invalidate() {
+            if (staticLayer) {
+                LayerCompositor.this.invalidate();
+            }
+        }
+
+        /**
+         * Marks an area of the layer as changed, only meaningful for static layers.
+         */
+        public void invalidate(final Rectangle area) {
+            if (staticLayer) {
+                LayerCompositor.this.invalidate(area);
+            }
+        }
+
+    }
+
+}
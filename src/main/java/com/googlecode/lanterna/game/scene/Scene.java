@@ -0,0 +1,146 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.scene;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.googlecode.lanterna.game.Update;
+
+/**
+ * Registry of many {@link Update}s. Each frame the entities are split into batches that are
+ * updated in parallel on a {@link ForkJoinPool}, {@link #update(float)} returns only after all of
+ * them are done. Entities touching shared state can be added as main-thread entities, they are
+ * updated one after another on the calling thread once all parallel entities are done, so no
+ * parallel entity runs while a main-thread entity does.
+ * <p>
+ * Entities may be added and removed from the game thread at any time, even from within an update,
+ * the changes take effect with the next frame.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class Scene implements Update {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final Update[] NO_UPDATES = new Update[0];
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    private final List<Update> parallel = new ArrayList<>();
+    private final List<Update> mainThread = new ArrayList<>();
+    private Update[] parallelUpdates = NO_UPDATES;
+    private Update[] mainThreadUpdates = NO_UPDATES;
+    private boolean changed;
+
+    public Scene() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public Scene(final ForkJoinPool pool, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(
+                            String.format("Batch size %d is not positive.", batchSize));
+        }
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Adds an entity that can be updated in parallel to all other such entities.
+     */
+    public Scene add(final Update update) {
+        parallel.add(update);
+        changed = true;
+        return this;
+    }
+
+    /**
+     * Adds an entity that is always updated on the thread calling {@link #update(float)}.
+     */
+    public Scene addMainThread(final Update update) {
+        mainThread.add(update);
+        changed = true;
+        return this;
+    }
+
+    public Scene remove(final Update update) {
+        changed |= parallel.remove(update);
+        changed |= mainThread.remove(update);
+        return this;
+    }
+
+    public int size() {
+        return parallel.size() + mainThread.size();
+    }
+
+    @Override
+    public void update(final float elapsed) {
+        if (changed) {
+            parallelUpdates = parallel.toArray(NO_UPDATES);
+            mainThreadUpdates = mainThread.toArray(NO_UPDATES);
+            changed = false;
+        }
+        final Update[] parallelUpdates = this.parallelUpdates;
+        if (parallelUpdates.length > batchSize) {
+            pool.invoke(new Batch(parallelUpdates, 0, parallelUpdates.length, elapsed));
+        } else {
+            update(parallelUpdates, 0, parallelUpdates.length, elapsed);
+        }
+        update(mainThreadUpdates, 0, mainThreadUpdates.length, elapsed);
+    }
+
+    private static void update(final Update[] updates, final int from, final int until,
+                    final float elapsed) {
+        for (int index = from; index < until; index++) {
+            updates[index].update(elapsed);
+        }
+    }
+
+    private class Batch extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Update[] updates;
+        private final int from;
+        private final int until;
+        private final float elapsed;
+
+        private Batch(final Update[] updates, final int from, final int until,
+                        final float elapsed) {
+            this.updates = updates;
+            this.from = from;
+            this.until = until;
+            this.elapsed = elapsed;
+        }
+
+        @Override
+        protected void compute() {
+            if (until - from <= batchSize) {
+                update(updates, from, until, elapsed);
+                return;
+            }
+            final int middle = (from + until) >>> 1;
+            invokeAll(new Batch(updates, from, middle, elapsed),
+                            new Batch(updates, middle, until, elapsed));
+        }
+
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.tile;
+
+import java.util.Arrays;
+
+/**
+ * Chunks of a {@link TileMap} by their packed position, without boxing the keys.
+ * <p>
+ * Entries live in parallel arrays and are found through an open addressed index. Clean entries
+ * are kept in least recently used order for eviction, edited entries leave that order and are
+ * never evicted.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+final class ChunkTable {
+
+    static final int NONE = -1;
+
+    private long[] keys = new long[16];
+    private TileChunk[] chunks = new TileChunk[16];
+    private boolean[] edited = new boolean[16];
+    private int[] previous = new int[16];
+    private int[] next = new int[16];
+
+    // entry + 1 per slot, 0 marks a free slot
+    private int[] index = new int[32];
+
+    private int size;
+    private int freeEntry = NONE;
+    private int usedEntries;
+    private int eldest = NONE;
+    private int youngest = NONE;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the entry of the key or {@link #NONE}, a clean entry becomes the most recently used
+     */
+    int find(final long key) {
+        final int mask = index.length - 1;
+        for (int slot = slot(key, mask);; slot = slot + 1 & mask) {
+            final int entry = index[slot] - 1;
+            if (entry == NONE) {
+                return NONE;
+            }
+            if (keys[entry] == key) {
+                if (!edited[entry] && entry != youngest) {
+                    unlink(entry);
+                    link(entry);
+                }
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * Adds a clean entry for a key not contained yet.
+     *
+     * @return the added entry
+     */
+    int add(final long key, final TileChunk chunk) {
+        if ((size + 1) * 2 > index.length) {
+            rehash(index.length * 2);
+        }
+        final int entry;
+        if (freeEntry != NONE) {
+            entry = freeEntry;
+            freeEntry = next[entry];
+        } else {
+            if (usedEntries == keys.length) {
+                grow(keys.length * 2);
+            }
+            entry = usedEntries++;
+        }
+        keys[entry] = key;
+        chunks[entry] = chunk;
+        edited[entry] = false;
+        link(entry);
+        insert(entry);
+        size++;
+        return entry;
+    }
+
+    TileChunk get(final int entry) {
+        return chunks[entry];
+    }
+
+    void set(final int entry, final TileChunk chunk) {
+        chunks[entry] = chunk;
+    }
+
+    /**
+     * Pins the entry, it will not be evicted anymore.
+     */
+    void setEdited(final int entry) {
+        if (!edited[entry]) {
+            unlink(entry);
+            edited[entry] = true;
+        }
+    }
+
+    /**
+     * Removes the least recently used clean entry.
+     *
+     * @return whether there was a clean entry to remove
+     */
+    boolean evictEldest() {
+        final int entry = eldest;
+        if (entry == NONE) {
+            return false;
+        }
+        unlink(entry);
+        remove(entry);
+        chunks[entry] = null;
+        next[entry] = freeEntry;
+        freeEntry = entry;
+        size--;
+        return true;
+    }
+
+    private void link(final int entry) {
+        previous[entry] = youngest;
+        next[entry] = NONE;
+        if (youngest != NONE) {
+            next[youngest] = entry;
+        } else {
+            eldest = entry;
+        }
+        youngest = entry;
+    }
+
+    private void unlink(final int entry) {
+        final int before = previous[entry];
+        final int after = next[entry];
+        if (before != NONE) {
+            next[before] = after;
+        } else {
+            eldest = after;
+        }
+        if (after != NONE) {
+            previous[after] = before;
+        } else {
+            youngest = before;
+        }
+    }
+
+    private void insert(final int entry) {
+        final int mask = index.length - 1;
+        int slot = slot(keys[entry], mask);
+        while (index[slot] != 0) {
+            slot = slot + 1 & mask;
+        }
+        index[slot] = entry + 1;
+    }
+
+    private void remove(final int entry) {
+        final int mask = index.length - 1;
+        int slot = slot(keys[entry], mask);
+        while (index[slot] != entry + 1) {
+            slot = slot + 1 & mask;
+        }
+        // shift following entries of the probe run back, so lookups need no tombstones
+        for (int following = slot + 1 & mask;; following = following + 1 & mask) {
+            final int moved = index[following] - 1;
+            if (moved == NONE) {
+                break;
+            }
+            final int home = slot(keys[moved], mask);
+            if ((following - home & mask) >= (following - slot & mask)) {
+                index[slot] = moved + 1;
+                slot = following;
+            }
+        }
+        index[slot] = 0;
+    }
+
+    private void rehash(final int length) {
+        index = new int[length];
+        for (int entry = 0; entry < usedEntries; entry++) {
+            if (chunks[entry] != null) {
+                insert(entry);
+            }
+        }
+    }
+
+    private void grow(final int length) {
+        keys = Arrays.copyOf(keys, length);
+        chunks = Arrays.copyOf(chunks, length);
+        edited = Arrays.copyOf(edited, length);
+        previous = Arrays.copyOf(previous, length);
+        next = Arrays.copyOf(next, length);
+    }
+
+    private static int slot(final long key, final int mask) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.tile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.game.image.TransparentTextImage;
+import com.googlecode.lanterna.graphics.TextImage;
+
+/**
+ * Tiles of equal size shared by all {@link TileMap}s using the atlas, addressed by dense ids.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class TileAtlas {
+
+    private final TerminalSize tileSize;
+    private final List<TransparentTextImage> tiles = new ArrayList<>();
+
+    public TileAtlas(final TerminalSize tileSize) {
+        if (tileSize.getColumns() == 0 || tileSize.getRows() == 0) {
+            throw new IllegalArgumentException(
+                            String.format("Tile size %s is empty.", tileSize));
+        }
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Cuts a sheet into tiles, row by row from the top left corner. Incomplete tiles at the right
+     * and bottom edge are ignored.
+     */
+    public static TileAtlas slice(final TextImage sheet, final TerminalSize tileSize) {
+        final TileAtlas atlas = new TileAtlas(tileSize);
+        final int tilesPerRow = sheet.getSize().getColumns() / tileSize.getColumns();
+        final int tilesPerColumn = sheet.getSize().getRows() / tileSize.getRows();
+        for (int tileRow = 0; tileRow < tilesPerColumn; tileRow++) {
+            for (int tileColumn = 0; tileColumn < tilesPerRow; tileColumn++) {
+                final TransparentTextImage tile = new TransparentTextImage(tileSize);
+                sheet.copyTo(tile, tileRow * tileSize.getRows(),
+                                tileSize.getRows(), tileColumn * tileSize.getColumns(),
+                                tileSize.getColumns(), 0, 0);
+                atlas.tiles.add(tile);
+            }
+        }
+        return atlas;
+    }
+
+    /**
+     * @return the id of the added tile
+     */
+    public int add(final TransparentTextImage tile) {
+        if (!tile.getSize().equals(tileSize)) {
+            throw new IllegalArgumentException(String.format(
+                            "Tile size %s does not match atlas tile size %s.", tile.getSize(),
+                            tileSize));
+        }
+        tiles.add(tile);
+        return tiles.size() - 1;
+    }
+
+    public TransparentTextImage get(final int id) {
+        return tiles.get(id);
+    }
+
+    public int size() {
+        return tiles.size();
+    }
+
+    public TerminalSize getTileSize() {
+        return tileSize;
+    }
+
+}
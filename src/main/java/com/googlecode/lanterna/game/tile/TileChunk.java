@@ -0,0 +1,51 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.tile;
+
+import java.util.Arrays;
+
+/**
+ * A square block of tile ids of a {@link TileMap}.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public final class TileChunk {
+
+    private final int size;
+    private final int[] tiles;
+
+    public TileChunk(final int size) {
+        this.size = size;
+        tiles = new int[size * size];
+        Arrays.fill(tiles, TileMap.NO_TILE);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the tile id at the position inside of the chunk or {@link TileMap#NO_TILE}
+     */
+    public int getTile(final int column, final int row) {
+        return tiles[row * size + column];
+    }
+
+    public void setTile(final int column, final int row, final int tile) {
+        tiles[row * size + column] = tile;
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.tile;
+
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.game.Rectangle;
+import com.googlecode.lanterna.game.scene.Camera;
+import com.googlecode.lanterna.graphics.TextGraphics;
+
+/**
+ * A map of tile ids pointing into a {@link TileAtlas}, split into square {@link TileChunk}s.
+ * <p>
+ * Without a {@link ChunkLoader} chunks are created when a tile is set and kept for the lifetime
+ * of the map. With a loader chunks are loaded when they are first needed, and the least recently
+ * used ones are dropped once more than the configured number of chunks is loaded. Chunks with
+ * tiles set on them are never dropped, so edits are not lost, but they stay loaded beyond that
+ * number. Only the chunks visible through the {@link Camera} are touched while rendering.
+ *
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class TileMap {
+
+    public static final int NO_TILE = -1;
+    public static final int DEFAULT_CHUNK_SIZE = 32;
+    public static final int DEFAULT_LOADED_CHUNKS = 256;
+
+    private static final TileChunk ABSENT = new TileChunk(0);
+
+    private final TileAtlas atlas;
+    private final int columns;
+    private final int rows;
+    private final int chunkSize;
+    private final ChunkLoader loader;
+    private final int loadedChunks;
+    private final ChunkTable chunks = new ChunkTable();
+
+    public TileMap(final TileAtlas atlas, final int columns, final int rows) {
+        this(atlas, columns, rows, DEFAULT_CHUNK_SIZE, null, DEFAULT_LOADED_CHUNKS);
+    }
+
+    public TileMap(final TileAtlas atlas, final int columns, final int rows, final int chunkSize,
+                    final ChunkLoader loader, final int loadedChunks) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(
+                            String.format("Chunk size %d is not positive.", chunkSize));
+        }
+        this.atlas = atlas;
+        this.columns = columns;
+        this.rows = rows;
+        this.chunkSize = chunkSize;
+        this.loader = loader;
+        this.loadedChunks = loadedChunks;
+    }
+
+    public TileAtlas getAtlas() {
+        return atlas;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the cells covered by the whole map
+     */
+    public Rectangle getBounds() {
+        final TerminalSize tileSize = atlas.getTileSize();
+        return new Rectangle(0, 0, columns * tileSize.getColumns(), rows * tileSize.getRows());
+    }
+
+    public int getLoadedChunks() {
+        return chunks.size();
+    }
+
+    /**
+     * @return the tile id at the given tile position or {@link #NO_TILE}
+     */
+    public int getTile(final int column, final int row) {
+        if (!contains(column, row)) {
+            return NO_TILE;
+        }
+        final TileChunk chunk = chunk(column / chunkSize, row / chunkSize);
+        if (chunk == ABSENT) {
+            return NO_TILE;
+        }
+        return chunk.getTile(column % chunkSize, row % chunkSize);
+    }
+
+    public void setTile(final int column, final int row, final int tile) {
+        if (!contains(column, row)) {
+            throw new IndexOutOfBoundsException(String.format(
+                            "Tile %d,%d is outside of the %dx%d map.", column, row, columns, rows));
+        }
+        final int chunkColumn = column / chunkSize;
+        final int chunkRow = row / chunkSize;
+        int entry = entry(chunkColumn, chunkRow);
+        if (entry == ChunkTable.NONE) {
+            entry = chunks.add(key(chunkColumn, chunkRow), new TileChunk(chunkSize));
+        } else if (chunks.get(entry) == ABSENT) {
+            chunks.set(entry, new TileChunk(chunkSize));
+        }
+        chunks.setEdited(entry);
+        chunks.get(entry).setTile(column % chunkSize, row % chunkSize, tile);
+    }
+
+    /**
+     * Draws the tiles visible through the camera into the viewport.
+     */
+    public void render(final TextGraphics viewport, final Camera camera) {
+        final Rectangle cameraView = camera.getView(viewport.getSize());
+        final Rectangle view = cameraView.intersection(getBounds());
+        if (view.isEmpty()) {
+            return;
+        }
+        final int tileColumns = atlas.getTileSize().getColumns();
+        final int tileRows = atlas.getTileSize().getRows();
+        final int firstColumn = view.getColumn() / tileColumns;
+        final int lastColumn = (view.getColumn() + view.getColumns() - 1) / tileColumns;
+        final int firstRow = view.getRow() / tileRows;
+        final int lastRow = (view.getRow() + view.getRows() - 1) / tileRows;
+
+        for (int chunkRow = firstRow / chunkSize; chunkRow <= lastRow / chunkSize; chunkRow++) {
+            for (int chunkColumn = firstColumn / chunkSize; chunkColumn <= lastColumn
+                            / chunkSize; chunkColumn++) {
+                final TileChunk chunk = chunk(chunkColumn, chunkRow);
+                if (chunk == ABSENT) {
+                    continue;
+                }
+                final int fromRow = Math.max(firstRow, chunkRow * chunkSize);
+                final int untilRow = Math.min(lastRow + 1, (chunkRow + 1) * chunkSize);
+                final int fromColumn = Math.max(firstColumn, chunkColumn * chunkSize);
+                final int untilColumn = Math.min(lastColumn + 1, (chunkColumn + 1) * chunkSize);
+                for (int row = fromRow; row < untilRow; row++) {
+                    for (int column = fromColumn; column < untilColumn; column++) {
+                        final int tile = chunk.getTile(column - chunkColumn * chunkSize,
+                                        row - chunkRow * chunkSize);
+                        if (tile == NO_TILE) {
+                            continue;
+                        }
+                        atlas.get(tile).drawImageWithTransparency(viewport,
+                                        column * tileColumns - cameraView.getColumn(),
+                                        row * tileRows - cameraView.getRow());
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean contains(final int column, final int row) {
+        return column >= 0 && column < columns && row >= 0 && row < rows;
+    }
+
+    private TileChunk chunk(final int chunkColumn, final int chunkRow) {
+        final int entry = entry(chunkColumn, chunkRow);
+        return entry != ChunkTable.NONE ? chunks.get(entry) : ABSENT;
+    }
+
+    /**
+     * @return the entry of the chunk, loading it if needed, or {@link ChunkTable#NONE} if there is
+     *         no entry without a loader
+     */
+    private int entry(final int chunkColumn, final int chunkRow) {
+        final long key = key(chunkColumn, chunkRow);
+        final int entry = chunks.find(key);
+        if (entry != ChunkTable.NONE || loader == null) {
+            return entry;
+        }
+        final TileChunk loaded = loader.load(chunkColumn, chunkRow);
+        if (loaded != null && loaded.getSize() != chunkSize) {
+            throw new IllegalStateException(String.format("Loaded chunk size %d is not %d.",
+                            loaded.getSize(), chunkSize));
+        }
+        if (chunks.size() >= loadedChunks) {
+            chunks.evictEldest();
+        }
+        return chunks.add(key, loaded != null ? loaded : ABSENT);
+    }
+
+    private static long key(final int chunkColumn, final int chunkRow) {
+        return (long) chunkRow << 32 | chunkColumn & 0xFFFFFFFFL;
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.terminal.virtual.DefaultVirtualTerminal;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class FrameBufferTest {
+
+    private final TerminalSize size = new TerminalSize(10, 5);
+    private final DefaultVirtualTerminal terminal = new DefaultVirtualTerminal(size);
+    private final FrameBuffer frameBuffer = new FrameBuffer(terminal, size);
+
+    @Test
+    public void flushTest() throws IOException {
+        frameBuffer.newTextGraphics().putString(2, 1, "abc");
+        frameBuffer.flush();
+        assertThat(frameBuffer.getCellsWritten(), is(50));
+        assertThat(terminal.getCharacter(3, 1).getCharacter(), is('b'));
+
+        frameBuffer.clear();
+        frameBuffer.newTextGraphics().putString(2, 1, "abc");
+        frameBuffer.flush();
+        assertThat(frameBuffer.getCellsWritten(), is(0));
+
+        frameBuffer.clear();
+        frameBuffer.newTextGraphics().putString(2, 1, "axc");
+        frameBuffer.flush();
+        assertThat(frameBuffer.getCellsWritten(), is(1));
+        assertThat(terminal.getCharacter(3, 1).getCharacter(), is('x'));
+    }
+
+    @Test
+    public void requestFullRepaintTest() throws IOException {
+        frameBuffer.flush();
+        frameBuffer.requestFullRepaint();
+        frameBuffer.flush();
+        assertThat(frameBuffer.getCellsWritten(), is(50));
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class FramePacingTest {
+
+    @Test
+    public void clampTest() {
+        assertThat(FramePacing.CLAMP.steps(0, 5), is(0));
+        assertThat(FramePacing.CLAMP.steps(1, 5), is(1));
+        assertThat(FramePacing.CLAMP.steps(10, 5), is(10));
+    }
+
+    @Test
+    public void catchUpTest() {
+        assertThat(FramePacing.CATCH_UP.steps(0, 5), is(0));
+        assertThat(FramePacing.CATCH_UP.steps(4, 5), is(4));
+        assertThat(FramePacing.CATCH_UP.steps(6, 5), is(6));
+        assertThat(FramePacing.CATCH_UP.steps(10, 5), is(6));
+        assertThat(FramePacing.CATCH_UP.steps(10, 0), is(1));
+    }
+
+    @Test
+    public void dropTest() {
+        assertThat(FramePacing.DROP.steps(0, 5), is(0));
+        assertThat(FramePacing.DROP.steps(1, 5), is(1));
+        assertThat(FramePacing.DROP.steps(10, 5), is(1));
+    }
+
+    @Test
+    public void advanceTest() {
+        final AtomicInteger updates = new AtomicInteger();
+        final TerminalGame terminalGame = new TerminalGame("pacing", 1, 1) //
+                        .update(elapsed -> updates.incrementAndGet()) //
+                        .updateRate(10) //
+                        .maxElapsed(10) //
+                        .framePacing(FramePacing.CATCH_UP) //
+                        .maxSkip(2);
+        terminalGame.advance(1_000_000_000L);
+        assertThat(updates.get(), is(3));
+        assertThat(terminalGame.getStatistics().getSkippedFrames(), is(2L));
+        assertThat(terminalGame.getStatistics().getDroppedUpdates(), is(7L));
+
+        terminalGame.framePacing(FramePacing.DROP);
+        terminalGame.advance(1_500_000_000L);
+        assertThat(updates.get(), is(4));
+        assertThat(terminalGame.getStatistics().getSkippedFrames(), is(2L));
+        assertThat(terminalGame.getStatistics().getDroppedUpdates(), is(11L));
+
+        terminalGame.framePacing(FramePacing.CLAMP).maxElapsed(0.25f);
+        terminalGame.advance(3_500_000_000L);
+        assertThat(updates.get(), is(6));
+        assertThat(terminalGame.getStatistics().getDroppedUpdates(), is(11L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMaxSkipTest() {
+        new TerminalGame("pacing", 1, 1).maxSkip(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroMaxElapsedTest() {
+        new TerminalGame("pacing", 1, 1).maxElapsed(0);
+    }
+
+}
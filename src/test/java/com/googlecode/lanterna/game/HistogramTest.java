@@ -0,0 +1,59 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class HistogramTest {
+
+    @Test
+    public void percentileTest() {
+        final Histogram histogram = new Histogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertThat(histogram.getCount(), is(1000L));
+        assertThat(histogram.getMax(), is(1_000_000L));
+        assertThat(histogram.getPercentile(50),
+                        allOf(greaterThanOrEqualTo(500_000L), lessThanOrEqualTo(535_000L)));
+        assertThat(histogram.getPercentile(99),
+                        allOf(greaterThanOrEqualTo(990_000L), lessThanOrEqualTo(1_000_000L)));
+        assertThat(histogram.getPercentile(100), is(1_000_000L));
+
+        histogram.reset();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getPercentile(50), is(0L));
+    }
+
+    @Test
+    public void smallValuesTest() {
+        final Histogram histogram = new Histogram();
+        histogram.record(3);
+        histogram.record(7);
+        assertThat(histogram.getPercentile(50), is(3L));
+        assertThat(histogram.getPercentile(99), is(7L));
+    }
+
+}
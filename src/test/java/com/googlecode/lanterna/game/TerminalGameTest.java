@@ -0,0 +1,145 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.game.event.Action;
+import com.googlecode.lanterna.game.event.ActionBinding;
+import com.googlecode.lanterna.game.event.GameEvent;
+import com.googlecode.lanterna.input.KeyStroke;
+import com.googlecode.lanterna.terminal.virtual.DefaultVirtualTerminal;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class TerminalGameTest {
+
+    @Test(timeout = 10_000)
+    public void headlessTest() throws InterruptedException {
+        final DefaultVirtualTerminal terminal =
+                        new HeadlessTerminalFactory(new TerminalSize(20, 5)).createTerminal();
+        final CountDownLatch frames = new CountDownLatch(10);
+        final TerminalGame terminalGame = new TerminalGame("headless", 20, 5) //
+                        .terminalFactory(() -> terminal) //
+                        .fpsLimit(0) //
+                        .render(textGraphics -> {
+                            textGraphics.putString(1, 2, "headless");
+                            frames.countDown();
+                        });
+        terminalGame.launch();
+        assertThat(frames.await(5, TimeUnit.SECONDS), is(true));
+        terminalGame.finish(false);
+
+        assertThat(terminal.getCharacter(1, 2).getCharacter(), is('h'));
+        assertThat(terminalGame.getStatistics().getFrameHistogram().getCount(),
+                        greaterThan(0L));
+    }
+
+    @Test(timeout = 10_000)
+    public void decoupledTest() throws InterruptedException {
+        final DefaultVirtualTerminal terminal =
+                        new HeadlessTerminalFactory(new TerminalSize(20, 5)).createTerminal();
+        final CountDownLatch frames = new CountDownLatch(10);
+        final TerminalGame terminalGame = new TerminalGame("decoupled", 20, 5) //
+                        .terminalFactory(() -> terminal) //
+                        .decoupled(true) //
+                        .updateRate(200) //
+                        .fpsLimit(0) //
+                        .render(textGraphics -> {
+                            textGraphics.putString(1, 2, "decoupled");
+                            frames.countDown();
+                        });
+        terminalGame.launch();
+        assertThat(frames.await(5, TimeUnit.SECONDS), is(true));
+        // frames reach the terminal through the presentation thread
+        while (terminal.getCharacter(1, 2).getCharacter() != 'd') {
+            Thread.sleep(1);
+        }
+        terminalGame.finish(false);
+
+        assertThat(terminal.getCharacter(9, 2).getCharacter(), is('d'));
+        assertThat(terminalGame.getStatistics().getFrameHistogram().getCount(),
+                        greaterThan(0L));
+    }
+
+    @Test(timeout = 10_000)
+    public void failureTest() throws InterruptedException {
+        final AtomicReference<Throwable> reported = new AtomicReference<>();
+        final CountDownLatch finalized = new CountDownLatch(1);
+        final Thread.UncaughtExceptionHandler previous =
+                        Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, exception) -> reported.set(exception));
+        try {
+            final TerminalGame terminalGame = new TerminalGame("failure", 20, 5) //
+                            .headless() //
+                            .fpsLimit(0) //
+                            .render(textGraphics -> {
+                                throw new IllegalStateException("broken");
+                            }) //
+                            .handler((game, event) -> {
+                                if (event == GameEvent.FINALIZE) {
+                                    finalized.countDown();
+                                }
+                            }, null);
+            terminalGame.launch();
+            assertThat(finalized.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(reported.get().getMessage(), is("broken"));
+            // already finished by the failing loop
+            terminalGame.finish(false);
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(previous);
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void finishFromHandlerTest() throws InterruptedException {
+        final DefaultVirtualTerminal terminal =
+                        new HeadlessTerminalFactory(new TerminalSize(20, 5)).createTerminal();
+        terminal.addInput(new KeyStroke('q', false, false));
+        final Action quit = new Action() {
+        };
+        final AtomicInteger renders = new AtomicInteger();
+        final CountDownLatch finalized = new CountDownLatch(1);
+        final TerminalGame terminalGame = new TerminalGame("finish", 20, 5) //
+                        .terminalFactory(() -> terminal) //
+                        .fpsLimit(0) //
+                        .render(textGraphics -> renders.incrementAndGet()) //
+                        .handler((game, event) -> {
+                            if (event == quit) {
+                                game.finish(false);
+                            } else if (event == GameEvent.FINALIZE) {
+                                finalized.countDown();
+                            }
+                        }, new ActionBinding(quit).bind(new KeyStroke('q', false, false), quit));
+        terminalGame.launch();
+        assertThat(finalized.await(5, TimeUnit.SECONDS), is(true));
+
+        // the frame the handler finished is not rendered anymore
+        assertThat(renders.get(), is(0));
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class TripleBufferTest {
+
+    @Test
+    public void publishTest() {
+        final TripleBuffer<AtomicInteger> tripleBuffer = new TripleBuffer<>(AtomicInteger::new);
+        assertThat(tripleBuffer.update(), is(false));
+
+        tripleBuffer.getWriteBuffer().set(1);
+        tripleBuffer.publish();
+        tripleBuffer.getWriteBuffer().set(2);
+        tripleBuffer.publish();
+        assertThat(tripleBuffer.update(), is(true));
+        assertThat(tripleBuffer.getReadBuffer().get(), is(2));
+        assertThat(tripleBuffer.update(), is(false));
+        assertThat(tripleBuffer.getReadBuffer().get(), is(2));
+        assertThat(tripleBuffer.getWriteBuffer(),
+                        is(not(sameInstance(tripleBuffer.getReadBuffer()))));
+    }
+
+}
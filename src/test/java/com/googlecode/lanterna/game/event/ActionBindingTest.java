@@ -39,4 +39,27 @@ public class ActionBindingTest {
                         is(ActionEnum.EVENT));
     }
 
+    @Test
+    public void resolveIdTest() {
+        final ActionBinding actionBinding = new ActionBinding(ActionEnum.values()) //
+                        .bind(new KeyStroke('a', false, false), ActionEnum.EVENT) //
+                        .bind(new KeyStroke('\u2550', true, false), ActionEnum.EVENT) //
+                        .bind(new KeyStroke(KeyType.Escape), new ActionClass());
+
+        assertThat(actionBinding.getId(ActionEnum.EVENT), is(ActionEnum.EVENT.ordinal()));
+        assertThat(actionBinding.resolveId(new KeyStroke('a', false, false)),
+                        is(ActionEnum.EVENT.ordinal()));
+        assertThat(actionBinding.resolveId(new KeyStroke('a', true, false)),
+                        is(ActionBinding.NO_ACTION));
+        assertThat(actionBinding.resolveId(new KeyStroke('\u2550', true, false)),
+                        is(ActionEnum.EVENT.ordinal()));
+        assertThat(actionBinding.resolveId(new KeyStroke('b', false, false)),
+                        is(ActionBinding.NO_ACTION));
+        assertThat(actionBinding.getAction(actionBinding.resolveId(new KeyStroke(KeyType.Escape)))
+                        .getClass(), is((Object) ActionClass.class));
+        assertThat(actionBinding.resolveId(new KeyStroke(KeyType.Enter)),
+                        is(ActionBinding.NO_ACTION));
+        assertThat(actionBinding.getActionCount(), is(2));
+    }
+
 }
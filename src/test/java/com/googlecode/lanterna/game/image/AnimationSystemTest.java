@@ -0,0 +1,75 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import com.googlecode.lanterna.game.image.TextAnimation.Type;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class AnimationSystemTest {
+
+    @Test
+    public void updateTest() {
+        final TextAnimationClip clip =
+                        TextAnimationClip.read(new ClassPathResource("frames.json", getClass()));
+        final AnimationSystem system = new AnimationSystem(ForkJoinPool.commonPool(), 16);
+        final int clipId = system.addClip(clip);
+        final TextAnimation reference = new TextAnimation(clip);
+
+        for (int playback = 0; playback < 1000; playback++) {
+            assertThat(system.play(clipId), is(playback));
+        }
+        final int forward = system.play(clipId, Type.FORWARD);
+        for (int tick = 0; tick < 50; tick++) {
+            system.update(0.3f);
+            reference.update(0.3f);
+            for (int playback = 0; playback < 1000; playback += 111) {
+                assertThat(system.getImage(playback), sameInstance(reference.getCurrentImage()));
+            }
+        }
+        assertThat(system.getFrame(forward), is(2));
+        assertThat(system.isPlaying(forward), is(false));
+    }
+
+    @Test
+    public void stopTest() {
+        final AnimationSystem system = new AnimationSystem();
+        final int clipId = system.addClip(
+                        TextAnimationClip.read(new ClassPathResource("frames.json", getClass())));
+        final int first = system.play(clipId);
+        final int second = system.play(clipId);
+        system.pause(second);
+        system.update(1.5f);
+        assertThat(system.getFrame(first), is(1));
+        assertThat(system.getFrame(second), is(0));
+
+        system.stop(first);
+        assertThat(system.size(), is(1));
+        assertThat(system.play(clipId), is(first));
+        assertThat(system.getFrame(first), is(0));
+    }
+
+}
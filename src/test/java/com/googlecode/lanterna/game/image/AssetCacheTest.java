@@ -0,0 +1,135 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import com.googlecode.lanterna.graphics.TextImage;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class AssetCacheTest {
+
+    @Test
+    public void sharedAssetsTest() {
+        final AssetCache assetCache = new AssetCache();
+        final ClassPathResource spriteResource = new ClassPathResource("sprite.json", getClass());
+        final TextSprite first = TextSprite.read(spriteResource, assetCache);
+        final TextSprite second = TextSprite.read(spriteResource, assetCache);
+
+        assertThat(second.getCurrentImage(), sameInstance(first.getCurrentImage()));
+        // the animation frame and the image state point at the same image
+        assertThat(assetCache.getMisses(), is(2L));
+        assertThat(assetCache.size(), is(2));
+        assertThat(TextSprite.read(spriteResource).getCurrentImage(),
+                        not(sameInstance(first.getCurrentImage())));
+
+        final TextAnimation animation = TextAnimation.read(
+                        new ClassPathResource("animation.json", getClass()), assetCache);
+        assertThat(animation.getCurrentImage(), sameInstance(first.getCurrentImage()));
+        assertThat(assetCache.getMisses(), is(2L));
+    }
+
+    @Test
+    public void evictionTest() {
+        final AssetCache assetCache = new AssetCache(200);
+        TextImageIO.read(new ClassPathResource("image/", getClass()), assetCache);
+        assetCache.getClip(new ClassPathResource("frames.json", getClass()));
+
+        assertThat(assetCache.size(), is(1));
+        assertThat(assetCache.getBytes() <= 200, is(true));
+        assertThat(assetCache.getLoadedBytes() > 200, is(true));
+    }
+
+    @Test
+    public void singleLoadTest() throws Exception {
+        final AssetCache assetCache = new AssetCache();
+        final ClassPathResource resource = new ClassPathResource("image/", getClass());
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<TextImage>> images = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                images.add(executor.submit(() -> {
+                    start.await();
+                    return assetCache.getImage(resource);
+                }));
+            }
+            start.countDown();
+            for (final Future<TextImage> image : images) {
+                assertThat(image.get(), sameInstance(images.get(0).get()));
+            }
+            assertThat(assetCache.getMisses(), is(1L));
+            // threads coming after the load completed find the image cached
+            assertThat(assetCache.getHits() + assetCache.getWaits(), is(7L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void waitTest() throws Exception {
+        final AssetCache assetCache = new AssetCache();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ClassPathResource resource = new ClassPathResource("image/", getClass()) {
+
+            @Override
+            public Resource createRelative(final String relativePath) {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.createRelative(relativePath);
+            }
+
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<TextImage> loaded = executor.submit(() -> assetCache.getImage(resource));
+            loading.await();
+            final Future<TextImage> waited = executor.submit(() -> assetCache.getImage(resource));
+            while (assetCache.getWaits() == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            assertThat(waited.get(), sameInstance(loaded.get()));
+            assertThat(assetCache.getMisses(), is(1L));
+            assertThat(assetCache.getWaits(), is(1L));
+            assertThat(assetCache.getHits(), is(0L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.googlecode.lanterna.SGR;
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.TextColor;
+import com.googlecode.lanterna.graphics.BasicTextImage;
+import com.googlecode.lanterna.graphics.TextImage;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class PackedTextImageTest {
+
+    private static final TextColor RED = new TextColor.RGB(255, 0, 0);
+    private static final TextColor BLUE = new TextColor.RGB(0, 0, 255);
+
+    @Test
+    public void characterTest() {
+        final PackedTextImage image = new PackedTextImage(new TerminalSize(3, 2));
+        final TextCharacter bold = new TextCharacter('b', new TextColor.Indexed(42),
+                        TextColor.ANSI.CYAN, SGR.BOLD, SGR.ITALIC);
+        image.setCharacterAt(1, 1, bold);
+        image.setCharacterAt(2, 0, new TransparentTextCharacter('t', RED));
+
+        assertThat(image.getCharacterAt(1, 1), is(bold));
+        assertThat(image.getCharacterAt(2, 0), instanceOf(TransparentTextCharacter.class));
+        assertThat(image.getCharacterAt(2, 0).getForegroundColor(), is(RED));
+        assertThat(image.getCharacterAt(0, 0), is(TextCharacter.DEFAULT_CHARACTER));
+        assertThat(image.getCharacterAt(3, 0), is(nullValue()));
+    }
+
+    @Test
+    public void sharedCharacterTest() {
+        final PackedTextImage image = new PackedTextImage(new TerminalSize(2, 1));
+        image.setCharacterAt(0, 0, new TextCharacter('s', RED, BLUE));
+        image.setCharacterAt(1, 0, new TextCharacter('s', RED, BLUE));
+        final long characterHits = TextCharacters.getCharacterHits();
+
+        assertThat(image.getCharacterAt(1, 0), sameInstance(image.getCharacterAt(0, 0)));
+        assertThat(image.getCharacterAt(0, 0).getForegroundColor(),
+                        sameInstance(TextCells.decodeColor(TextCells.rgb(255, 0, 0))));
+        assertThat(TextCharacters.getCharacterHits() > characterHits, is(true));
+    }
+
+    @Test
+    public void sharedColorTest() {
+        final long characterHits = TextCharacters.getCharacterHits();
+        final long colorHits = TextCharacters.getColorHits();
+        final long colorMisses = TextCharacters.getColorMisses();
+
+        TextCharacters.rgb(0x123457);
+        assertThat(TextCharacters.rgb(0x123457), sameInstance(TextCharacters.rgb(0x123457)));
+        assertThat(TextCharacters.getColorMisses() - colorMisses <= 1, is(true));
+        assertThat(TextCharacters.getColorHits() - colorHits >= 2, is(true));
+        assertThat(TextCharacters.getCharacterHits(), is(characterHits));
+    }
+
+    @Test
+    public void copyToTest() {
+        final PackedTextImage image = new PackedTextImage(new TerminalSize(3, 3));
+        image.newTextGraphics().putString(0, 1, "abc");
+        final PackedTextImage packed = new PackedTextImage(new TerminalSize(3, 3));
+        final TextImage basic = new BasicTextImage(new TerminalSize(3, 3));
+        image.copyTo(packed, 1, 1, 1, 2, 0, 0);
+        image.copyTo(basic, 1, 1, 1, 2, 0, 0);
+        assertThat(packed.getCharacterAt(0, 0).getCharacter(), is('b'));
+        assertThat(packed.getCharacterAt(1, 0).getCharacter(), is('c'));
+        assertThat(basic.getCharacterAt(1, 0).getCharacter(), is('c'));
+    }
+
+    @Test
+    public void scrollLinesTest() {
+        final PackedTextImage image = new PackedTextImage(new TerminalSize(1, 4));
+        image.newTextGraphics().putString(0, 0, "a").putString(0, 1, "b").putString(0, 2, "c")
+                        .putString(0, 3, "d");
+        image.scrollLines(0, 3, 1);
+        assertThat(image.toString(), is("b\nc\nd\n \n"));
+        image.scrollLines(1, 3, -2);
+        assertThat(image.toString(), is("b\n \n \nc\n"));
+    }
+
+    @Test
+    public void drawImageWithTransparencyTest() {
+        final TransparentTextImage sprite = new TransparentTextImage(new TerminalSize(4, 1));
+        sprite.setCharacterAt(0, 0, new TextCharacter('o', RED, RED));
+        sprite.setCharacterAt(1, 0, new TransparentTextCharacter('t', RED));
+        sprite.setCharacterAt(2, 0, new TransparentTextCharacter(' ', RED));
+        sprite.setCharacterAt(3, 0, new TextCharacter('o', RED, RED));
+
+        final TextCharacter background = new TextCharacter('x', BLUE, BLUE);
+        final PackedTextImage packed = new PackedTextImage(new TerminalSize(4, 1), background);
+        final TextImage basic = new BasicTextImage(new TerminalSize(4, 1), background);
+        sprite.drawImageWithTransparency(packed.newTextGraphics(), new TerminalPosition(1, 0));
+        sprite.drawImageWithTransparency(basic.newTextGraphics(), new TerminalPosition(1, 0));
+
+        for (int column = 0; column < 4; column++) {
+            assertThat(packed.getCharacterAt(column, 0), is(basic.getCharacterAt(column, 0)));
+        }
+        assertThat(packed.getCharacterAt(1, 0), is(new TextCharacter('o', RED, RED)));
+        assertThat(packed.getCharacterAt(2, 0), is(new TextCharacter('t', RED, BLUE)));
+        assertThat(packed.getCharacterAt(3, 0), is(background));
+
+        sprite.setCharacterAt(2, 0, new TextCharacter('n', RED, RED));
+        sprite.drawImageWithTransparency(packed.newTextGraphics(), new TerminalPosition(0, 0));
+        assertThat(packed.getCharacterAt(2, 0), is(new TextCharacter('n', RED, RED)));
+    }
+
+}
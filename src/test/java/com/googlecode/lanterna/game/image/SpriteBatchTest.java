@@ -0,0 +1,137 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.TextColor;
+import com.googlecode.lanterna.graphics.BasicTextImage;
+import com.googlecode.lanterna.graphics.TextImage;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class SpriteBatchTest {
+
+    private static final TextColor[] COLORS = {TextColor.ANSI.RED, TextColor.ANSI.GREEN,
+                    TextColor.ANSI.BLUE, new TextColor.RGB(1, 2, 3)};
+
+    @Test
+    public void flushTest() {
+        final Random random = new Random(42);
+        final TerminalSize screenSize = new TerminalSize(20, 10);
+        final TextCharacter background = new TextCharacter('.', COLORS[3], COLORS[3]);
+        final List<Submission> submissions = new ArrayList<>();
+        final SpriteBatch packedBatch = new SpriteBatch();
+        final SpriteBatch basicBatch = new SpriteBatch();
+        for (int sprite = 0; sprite < 30; sprite++) {
+            final TransparentTextImage image = randomImage(random);
+            final Submission submission = new Submission(image,
+                            new TerminalPosition(random.nextInt(24) - 4, random.nextInt(14) - 4),
+                            random.nextInt(5) - 2);
+            submissions.add(submission);
+            packedBatch.submit(image, submission.position, submission.z);
+            basicBatch.submit(image, submission.position, submission.z);
+        }
+
+        final TextImage expected = new BasicTextImage(screenSize, background);
+        submissions.sort(Comparator.comparingInt(submission -> submission.z));
+        for (final Submission submission : submissions) {
+            submission.image.drawImageWithTransparency(expected.newTextGraphics(),
+                            submission.position);
+        }
+        final PackedTextImage packed = new PackedTextImage(screenSize, background);
+        packedBatch.flush(packed.newTextGraphics());
+        final TextImage basic = new BasicTextImage(screenSize, background);
+        basicBatch.flush(basic.newTextGraphics());
+
+        for (int row = 0; row < screenSize.getRows(); row++) {
+            for (int column = 0; column < screenSize.getColumns(); column++) {
+                assertThat(packed.getCharacterAt(column, row),
+                                is(expected.getCharacterAt(column, row)));
+                assertThat(basic.getCharacterAt(column, row),
+                                is(expected.getCharacterAt(column, row)));
+            }
+        }
+        assertThat(packedBatch.size(), is(0));
+        assertThat(packedBatch.getCellsWritten() <= screenSize.getColumns() * screenSize.getRows(),
+                        is(true));
+    }
+
+    @Test
+    public void overdrawTest() {
+        final TransparentTextImage image = new TransparentTextImage(new TerminalSize(10, 10));
+        final SpriteBatch batch = new SpriteBatch();
+        for (int sprite = 0; sprite < 100; sprite++) {
+            batch.submit(image, TerminalPosition.TOP_LEFT_CORNER, sprite);
+        }
+        batch.flush(new PackedTextImage(new TerminalSize(10, 10)).newTextGraphics());
+        assertThat(batch.getCellsWritten(), is(100L));
+    }
+
+    private static TransparentTextImage randomImage(final Random random) {
+        final TransparentTextImage image = new TransparentTextImage(
+                        new TerminalSize(1 + random.nextInt(6), 1 + random.nextInt(6)));
+        for (int row = 0; row < image.getRows(); row++) {
+            for (int column = 0; column < image.getColumns(); column++) {
+                final char character = (char) ('a' + random.nextInt(26));
+                final TextColor foreground = COLORS[random.nextInt(COLORS.length)];
+                switch (random.nextInt(3)) {
+                    case 0:
+                        image.setCharacterAt(column, row, new TextCharacter(character, foreground,
+                                        COLORS[random.nextInt(COLORS.length)]));
+                        break;
+                    case 1:
+                        image.setCharacterAt(column, row,
+                                        new TransparentTextCharacter(character, foreground));
+                        break;
+                    default:
+                        image.setCharacterAt(column, row,
+                                        new TransparentTextCharacter(' ', foreground));
+                        break;
+                }
+            }
+        }
+        return image;
+    }
+
+    private static class Submission {
+
+        private final TransparentTextImage image;
+        private final TerminalPosition position;
+        private final int z;
+
+        private Submission(final TransparentTextImage image, final TerminalPosition position,
+                        final int z) {
+            this.image = image;
+            this.position = position;
+            this.z = z;
+        }
+
+    }
+
+}
@@ -14,9 +14,18 @@
 
 package com.googlecode.lanterna.game.image;
 
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
 
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.graphics.TextImage;
+
 /**
  * @author Klaus Hauschild
  * @since 3.0.1
@@ -29,4 +38,66 @@ public class TextAnimationTest {
                         TextAnimation.read(new ClassPathResource("animation.json", getClass()));
     }
 
+    @Test
+    public void updateTest() {
+        final TextAnimation textAnimation =
+                        TextAnimation.read(new ClassPathResource("frames.json", getClass()));
+        final TextImage first = textAnimation.getCurrentImage();
+
+        textAnimation.update(0.5f);
+        assertThat(textAnimation.getCurrentImage(), sameInstance(first));
+        textAnimation.update(1);
+        final TextImage second = textAnimation.getCurrentImage();
+        assertThat(second, not(sameInstance(first)));
+        textAnimation.update(1.4f);
+        assertThat(textAnimation.getCurrentImage(), sameInstance(second));
+        textAnimation.update(0.2f);
+        final TextImage third = textAnimation.getCurrentImage();
+        assertThat(third, not(sameInstance(second)));
+
+        // 6.5 wraps around to 0.5
+        textAnimation.update(3.4f);
+        assertThat(textAnimation.getCurrentImage(), sameInstance(first));
+        textAnimation.update(15);
+        assertThat(textAnimation.getCurrentImage(), sameInstance(third));
+    }
+
+    @Test
+    public void sharedClipTest() {
+        final TextAnimationClip clip =
+                        TextAnimationClip.read(new ClassPathResource("frames.json", getClass()));
+        assertThat(clip.getFrameCount(), is(3));
+        assertThat(clip.getDuration(), is(6f));
+
+        final TextAnimation walking = new TextAnimation(clip);
+        final TextAnimation standing = new TextAnimation(clip);
+        walking.update(4);
+        assertThat(walking.getCurrentImage(), sameInstance(clip.getImage(2)));
+        assertThat(standing.getCurrentImage(), sameInstance(clip.getImage(0)));
+        assertThat(walking.getClip(), sameInstance(standing.getClip()));
+    }
+
+    @Test
+    public void findFrameTest() {
+        final TextAnimationClip clip =
+                        TextAnimationClip.read(new ClassPathResource("frames.json", getClass()));
+        assertThat(clip.findFrame(0, 0.5f), is(0));
+        assertThat(clip.findFrame(0, 1), is(1));
+        assertThat(clip.findFrame(1, 5.9f), is(2));
+        // times from the end of the clip on stay at the last frame
+        assertThat(clip.findFrame(1, 6), is(2));
+        assertThat(clip.findFrame(2, 100), is(2));
+        assertThat(clip.findFrame(100), is(2));
+    }
+
+    @Test
+    public void renderTest() {
+        final TextAnimation textAnimation =
+                        TextAnimation.read(new ClassPathResource("animation.json", getClass()));
+        final PackedTextImage screen = new PackedTextImage(new TerminalSize(3, 4));
+        textAnimation.render(screen.newTextGraphics(), new TerminalPosition(1, 0));
+        assertThat(screen.getCharacterAt(1, 0).getCharacter(), is('═'));
+        assertThat(screen.getCharacterAt(2, 3).getCharacter(), is('┘'));
+    }
+
 }
@@ -31,9 +31,15 @@ package com.googlecode.lanterna.game.image;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
 
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.TextColor;
 import com.googlecode.lanterna.graphics.TextImage;
 
 /**
@@ -49,4 +55,72 @@ public class TextImageIOTest {
         assertThat(textImage.getSize().getRows(), is(4));
     }
 
+    @Test
+    public void imageTypesTest() {
+        final List<String> glyphs = Arrays.asList("ab", "c");
+        final TextImage expected = TextImageIO.read(glyphs,
+                        image(BufferedImage.TYPE_INT_ARGB, 0xFF102030),
+                        image(BufferedImage.TYPE_INT_ARGB, 0x00000000));
+        assertThat(expected.getCharacterAt(0, 0),
+                        is(new TransparentTextCharacter('a', new TextColor.RGB(16, 32, 48))));
+        assertThat(expected.getCharacterAt(1, 1).getCharacter(), is(' '));
+
+        for (final int type : new int[] {BufferedImage.TYPE_4BYTE_ABGR,
+                        BufferedImage.TYPE_INT_ARGB_PRE}) {
+            final TextImage textImage = TextImageIO.read(glyphs, image(type, 0xFF102030),
+                            image(type, 0x00000000));
+            for (int row = 0; row < 2; row++) {
+                for (int column = 0; column < 2; column++) {
+                    assertThat(textImage.getCharacterAt(column, row),
+                                    is(expected.getCharacterAt(column, row)));
+                }
+            }
+        }
+
+        final TextImage opaque = TextImageIO.read(glyphs,
+                        image(BufferedImage.TYPE_4BYTE_ABGR, 0xFF102030),
+                        image(BufferedImage.TYPE_4BYTE_ABGR, 0xFF405060));
+        assertThat(opaque.getCharacterAt(1, 0), is(new TextCharacter('b',
+                        new TextColor.RGB(16, 32, 48), new TextColor.RGB(64, 80, 96))));
+    }
+
+    @Test
+    public void transparentForegroundTest() {
+        final List<String> glyphs = Arrays.asList("ab");
+        for (final int type : new int[] {BufferedImage.TYPE_INT_ARGB,
+                        BufferedImage.TYPE_4BYTE_ABGR}) {
+            final BufferedImage foreground = new BufferedImage(2, 1, type);
+            foreground.setRGB(0, 0, 0xFF102030);
+            foreground.setRGB(1, 0, 0x00000000);
+            final BufferedImage background = new BufferedImage(2, 1, type);
+            background.setRGB(0, 0, 0xFF405060);
+            background.setRGB(1, 0, 0xFF405060);
+
+            final TextImage textImage = TextImageIO.read(glyphs, foreground, background);
+            assertThat(textImage.getCharacterAt(0, 0).getForegroundColor(),
+                            is(new TextColor.RGB(0x10, 0x20, 0x30)));
+            assertThat(textImage.getCharacterAt(1, 0).getForegroundColor(),
+                            is(TextColor.ANSI.DEFAULT));
+            assertThat(textImage.getCharacterAt(1, 0).getBackgroundColor(),
+                            is(new TextColor.RGB(0x40, 0x50, 0x60)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void narrowImageTest() {
+        final List<String> glyphs = Arrays.asList("abc", "def");
+        TextImageIO.read(glyphs, image(BufferedImage.TYPE_INT_ARGB, 0xFF102030),
+                        image(BufferedImage.TYPE_INT_ARGB, 0xFF405060));
+    }
+
+    private static BufferedImage image(final int type, final int argb) {
+        final BufferedImage image = new BufferedImage(2, 2, type);
+        for (int row = 0; row < 2; row++) {
+            for (int column = 0; column < 2; column++) {
+                image.setRGB(column, row, argb);
+            }
+        }
+        return image;
+    }
+
 }
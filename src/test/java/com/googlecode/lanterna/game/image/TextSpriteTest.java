@@ -0,0 +1,88 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.image;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Optional;
+
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.game.Rectangle;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class TextSpriteTest {
+
+    @Test
+    public void renderTest() {
+        final TextSprite sprite = TextSprite.read(new ClassPathResource("sprite.json", getClass()));
+        final PackedTextImage screen = new PackedTextImage(new TerminalSize(4, 4));
+
+        sprite.setPosition(new TerminalPosition(1, 2));
+        sprite.render(screen.newTextGraphics());
+        assertThat(screen.getCharacterAt(1, 2).getCharacter(), is('═'));
+        assertThat(screen.getCharacterAt(2, 3).getCharacter(), is('│'));
+
+        screen.setAll(TextCharacter.DEFAULT_CHARACTER);
+        sprite.setPosition(new TerminalPosition(4, 0));
+        sprite.render(screen.newTextGraphics());
+        assertThat(screen.toString(), is("    \n    \n    \n    \n"));
+    }
+
+    @Test
+    public void stateTest() {
+        final TextSprite sprite = TextSprite.read(new ClassPathResource("sprite.json", getClass()));
+        final int animationState = sprite.getStateId("animationState");
+        assertThat(sprite.getState(), is(0));
+        assertThat(animationState, is(1));
+        assertThat(sprite.getStateId("unknown"), is(TextSprite.NO_STATE));
+
+        sprite.updateState(animationState);
+        assertThat(sprite.getState(), is(animationState));
+        sprite.updateState("unknown");
+        assertThat(sprite.getState(), is(animationState));
+        sprite.updateState("imageState");
+        assertThat(sprite.getState(), is(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownStateIdTest() {
+        final TextSprite sprite = TextSprite.read(new ClassPathResource("sprite.json", getClass()));
+        sprite.updateState(sprite.getStateId("animationState") + 100);
+    }
+
+    @Test
+    public void dirtyRectangleTest() {
+        final TextSprite sprite = TextSprite.read(new ClassPathResource("sprite.json", getClass()));
+        assertThat(sprite.getDirtyRectangle(), is(Optional.of(new Rectangle(0, 0, 2, 4))));
+
+        sprite.clearDirtyRectangle();
+        sprite.setPosition(TerminalPosition.TOP_LEFT_CORNER);
+        assertThat(sprite.getDirtyRectangle(), is(Optional.empty()));
+
+        sprite.setPosition(new TerminalPosition(3, 1));
+        assertThat(sprite.getBounds(), is(new Rectangle(3, 1, 2, 4)));
+        assertThat(sprite.getDirtyRectangle(), is(Optional.of(new Rectangle(0, 0, 5, 5))));
+    }
+
+}
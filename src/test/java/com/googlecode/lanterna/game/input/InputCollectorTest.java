@@ -0,0 +1,86 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.input;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.input.InputProvider;
+import com.googlecode.lanterna.input.KeyStroke;
+import com.googlecode.lanterna.terminal.virtual.DefaultVirtualTerminal;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class InputCollectorTest {
+
+    @Test(timeout = 10_000)
+    public void collectTest() throws IOException {
+        final DefaultVirtualTerminal terminal = new DefaultVirtualTerminal(new TerminalSize(1, 1));
+        final InputRing inputRing = new InputRing(64);
+        final InputCollector inputCollector = new InputCollector(terminal, inputRing);
+        inputCollector.start("input");
+        try {
+            for (int key = 0; key < 10; key++) {
+                terminal.addInput(InputRingTest.key(key));
+            }
+            for (int key = 0; key < 10; key++) {
+                KeyStroke keyStroke;
+                while ((keyStroke = inputRing.poll()) == null) {
+                    Thread.yield();
+                }
+                assertThat(keyStroke, is(InputRingTest.key(key)));
+            }
+            inputCollector.checkFailure();
+        } finally {
+            inputCollector.stop();
+        }
+        assertThat(inputCollector.getDropped(), is(0L));
+    }
+
+    @Test(timeout = 10_000, expected = IOException.class)
+    public void failureTest() throws IOException, InterruptedException {
+        final InputProvider broken = new InputProvider() {
+
+            @Override
+            public KeyStroke pollInput() throws IOException {
+                throw new IOException("broken");
+            }
+
+            @Override
+            public KeyStroke readInput() throws IOException {
+                throw new IOException("broken");
+            }
+
+        };
+        final InputCollector inputCollector = new InputCollector(broken, new InputRing(4));
+        inputCollector.start("input");
+        try {
+            while (true) {
+                inputCollector.checkFailure();
+                Thread.sleep(1);
+            }
+        } finally {
+            inputCollector.stop();
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.input;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.googlecode.lanterna.input.KeyStroke;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class InputRingTest {
+
+    @Test
+    public void wrapAroundTest() {
+        final InputRing inputRing = new InputRing(4);
+        for (int round = 0; round < 10; round++) {
+            for (int key = 0; key < 3; key++) {
+                assertThat(inputRing.offer(key(round * 3 + key), round * 3 + key), is(true));
+            }
+            for (int key = 0; key < 3; key++) {
+                assertThat(inputRing.poll(), is(key(round * 3 + key)));
+                assertThat(inputRing.getTimestamp(), is((long) round * 3 + key));
+            }
+        }
+        assertThat(inputRing.poll(), is(nullValue()));
+        assertThat(inputRing.size(), is(0));
+    }
+
+    @Test
+    public void fullTest() {
+        final InputRing inputRing = new InputRing(3);
+        for (int key = 0; key < 4; key++) {
+            assertThat(inputRing.offer(key(key), key), is(true));
+        }
+        assertThat(inputRing.offer(key(4), 4), is(false));
+        assertThat(inputRing.size(), is(4));
+
+        assertThat(inputRing.poll(), is(key(0)));
+        assertThat(inputRing.offer(key(5), 5), is(true));
+        for (final int key : new int[] {1, 2, 3, 5}) {
+            assertThat(inputRing.poll(), is(key(key)));
+        }
+        assertThat(inputRing.poll(), is(nullValue()));
+    }
+
+    @Test(timeout = 10_000)
+    public void threadsTest() throws InterruptedException {
+        final InputRing inputRing = new InputRing(16);
+        final int keys = 100_000;
+        final Thread producer = new Thread(() -> {
+            for (int key = 0; key < keys; key++) {
+                while (!inputRing.offer(key(key % 26), key)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        for (int key = 0; key < keys; key++) {
+            KeyStroke keyStroke;
+            while ((keyStroke = inputRing.poll()) == null) {
+                Thread.yield();
+            }
+            assertThat(keyStroke, is(key(key % 26)));
+            assertThat(inputRing.getTimestamp(), is((long) key));
+        }
+        producer.join();
+        assertThat(inputRing.poll(), is(nullValue()));
+    }
+
+    static KeyStroke key(final int key) {
+        return new KeyStroke((char) ('a' + key % 26), false, false);
+    }
+
+}
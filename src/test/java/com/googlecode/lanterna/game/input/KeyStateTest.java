@@ -0,0 +1,77 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.input;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.googlecode.lanterna.input.KeyStroke;
+import com.googlecode.lanterna.input.KeyType;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class KeyStateTest {
+
+    @Test
+    public void heldTest() {
+        final KeyState keyState = new KeyState();
+        keyState.setHoldNanos(100);
+        keyState.snapshot(0);
+        assertThat(keyState.isHeld(KeyType.ArrowLeft), is(false));
+
+        keyState.record(new KeyStroke(KeyType.ArrowLeft), 10);
+        keyState.record(new KeyStroke('x', false, false), 20);
+        keyState.snapshot(50);
+        assertThat(keyState.isHeld(KeyType.ArrowLeft), is(true));
+        assertThat(keyState.isPressed(KeyType.ArrowLeft), is(true));
+        assertThat(keyState.isHeld('x'), is(true));
+        assertThat(keyState.isHeld('y'), is(false));
+        assertThat(keyState.isHeld(KeyType.ArrowRight), is(false));
+
+        keyState.snapshot(100);
+        assertThat(keyState.isHeld(KeyType.ArrowLeft), is(true));
+        assertThat(keyState.isPressed(KeyType.ArrowLeft), is(false));
+
+        keyState.snapshot(200);
+        assertThat(keyState.isHeld(KeyType.ArrowLeft), is(false));
+        assertThat(keyState.isHeld('x'), is(false));
+    }
+
+    @Test
+    public void inputRingTest() {
+        final InputRing inputRing = new InputRing(3);
+        final KeyStroke keyStroke = new KeyStroke(KeyType.Enter);
+        for (int index = 0; index < 4; index++) {
+            assertThat(inputRing.offer(keyStroke, index), is(true));
+        }
+        assertThat(inputRing.offer(keyStroke, 4), is(false));
+        assertThat(inputRing.poll(), is(keyStroke));
+        assertThat(inputRing.getTimestamp(), is(0L));
+        assertThat(inputRing.size(), is(3));
+        assertThat(inputRing.offer(keyStroke, 5), is(true));
+        for (int index = 1; index < 4; index++) {
+            inputRing.poll();
+        }
+        assertThat(inputRing.poll(), is(keyStroke));
+        assertThat(inputRing.getTimestamp(), is(5L));
+        assertThat(inputRing.poll(), is(nullValue()));
+    }
+
+}
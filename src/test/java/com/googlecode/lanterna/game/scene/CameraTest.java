@@ -0,0 +1,67 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.scene;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.game.Rectangle;
+import com.googlecode.lanterna.game.image.PackedTextImage;
+import com.googlecode.lanterna.game.image.TransparentTextImage;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class CameraTest {
+
+    @Test
+    public void drawTest() {
+        final TransparentTextImage world = new TransparentTextImage(new TerminalSize(1000, 1000));
+        world.setCharacterAt(500, 500, new TextCharacter('a'));
+        world.setCharacterAt(503, 502, new TextCharacter('b'));
+        world.setCharacterAt(504, 500, new TextCharacter('c'));
+        final PackedTextImage screen = new PackedTextImage(new TerminalSize(4, 3));
+
+        final Camera camera = new Camera().setPosition(new TerminalPosition(500, 500));
+        camera.draw(screen.newTextGraphics(), world, new TerminalPosition(0, 0));
+        assertThat(screen.getCharacterAt(0, 0).getCharacter(), is('a'));
+        assertThat(screen.getCharacterAt(3, 2).getCharacter(), is('b'));
+
+        camera.moveBy(1, 0);
+        camera.draw(screen.newTextGraphics(), world, new TerminalPosition(0, 0));
+        assertThat(screen.getCharacterAt(3, 0).getCharacter(), is('c'));
+        assertThat(camera.toWorld(new TerminalPosition(3, 0), screen.getSize()),
+                        is(new TerminalPosition(504, 500)));
+    }
+
+    @Test
+    public void boundsTest() {
+        final Camera camera = new Camera().setBounds(new Rectangle(0, 0, 100, 50));
+        final TerminalSize viewport = new TerminalSize(20, 10);
+
+        camera.centerOn(new TerminalPosition(2, 2), viewport);
+        assertThat(camera.getView(viewport), is(new Rectangle(0, 0, 20, 10)));
+        camera.centerOn(new TerminalPosition(99, 49), viewport);
+        assertThat(camera.getView(viewport), is(new Rectangle(80, 40, 20, 10)));
+        assertThat(camera.isVisible(new Rectangle(70, 30, 10, 10), viewport), is(false));
+    }
+
+}
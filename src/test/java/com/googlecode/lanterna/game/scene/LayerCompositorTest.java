@@ -0,0 +1,86 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.scene;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.game.Rectangle;
+import com.googlecode.lanterna.game.image.PackedTextImage;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class LayerCompositorTest {
+
+    @Test
+    public void renderTest() {
+        final AtomicInteger staticRenders = new AtomicInteger();
+        final StringBuilder background = new StringBuilder("aaaa");
+        final LayerCompositor compositor = new LayerCompositor();
+        final LayerCompositor.Layer layer = compositor.addStatic(0, textGraphics -> {
+            staticRenders.incrementAndGet();
+            textGraphics.putString(0, 0, background.toString());
+        });
+        compositor.addStatic(1, textGraphics -> textGraphics.putString(3, 0, "s"));
+        compositor.addDynamic(-1, textGraphics -> textGraphics.putString(0, 0, "d"));
+
+        final PackedTextImage screen = new PackedTextImage(new TerminalSize(4, 1));
+        compositor.render(screen.newTextGraphics());
+        assertThat(screen.toString(), is("daas\n"));
+        compositor.render(screen.newTextGraphics());
+        assertThat(staticRenders.get(), is(1));
+        assertThat(compositor.getRecomposedCells(), is(4));
+
+        background.replace(0, 4, "bbbb");
+        layer.invalidate(new Rectangle(1, 0, 1, 1));
+        compositor.render(screen.newTextGraphics());
+        assertThat(screen.toString(), is("dbas\n"));
+        assertThat(staticRenders.get(), is(2));
+        assertThat(compositor.getRecomposedCells(), is(5));
+    }
+
+    @Test
+    public void dirtyAreasTest() {
+        final LayerCompositor compositor = new LayerCompositor();
+        final AtomicInteger staticRenders = new AtomicInteger();
+        compositor.addStatic(0, textGraphics -> staticRenders.incrementAndGet());
+        final PackedTextImage screen = new PackedTextImage(new TerminalSize(10, 10));
+        compositor.render(screen.newTextGraphics());
+        assertThat(compositor.getRecomposedCells(), is(100));
+
+        // opposite corners are recomposed separately instead of everything in between
+        compositor.invalidate(new Rectangle(0, 0, 1, 1));
+        compositor.invalidate(new Rectangle(9, 9, 1, 1));
+        compositor.render(screen.newTextGraphics());
+        assertThat(compositor.getRecomposedCells(), is(102));
+        assertThat(staticRenders.get(), is(3));
+
+        // overlapping areas are merged, including one reached only by the merged area
+        compositor.invalidate(new Rectangle(0, 0, 2, 2));
+        compositor.invalidate(new Rectangle(3, 3, 1, 1));
+        compositor.invalidate(new Rectangle(1, 1, 3, 3));
+        compositor.render(screen.newTextGraphics());
+        assertThat(compositor.getRecomposedCells(), is(118));
+        assertThat(staticRenders.get(), is(4));
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.scene;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class SceneTest {
+
+    @Test
+    public void updateTest() {
+        final Scene scene = new Scene(ForkJoinPool.commonPool(), 16);
+        final AtomicInteger parallelUpdates = new AtomicInteger();
+        final int[] mainThreadUpdates = {0};
+        final Thread mainThread = Thread.currentThread();
+        for (int index = 0; index < 1000; index++) {
+            scene.add(elapsed -> parallelUpdates.incrementAndGet());
+        }
+        scene.addMainThread(elapsed -> {
+            assertThat(Thread.currentThread(), is(mainThread));
+            mainThreadUpdates[0]++;
+        });
+
+        scene.update(0.1f);
+        scene.update(0.1f);
+
+        assertThat(scene.size(), is(1001));
+        assertThat(parallelUpdates.get(), is(2000));
+        assertThat(mainThreadUpdates[0], is(2));
+    }
+
+    @Test
+    public void mainThreadAfterParallelTest() {
+        final Scene scene = new Scene(ForkJoinPool.commonPool(), 4);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger parallelUpdates = new AtomicInteger();
+        final boolean[] overlapped = {false};
+        final int[] doneBefore = {0};
+        for (int index = 0; index < 64; index++) {
+            scene.add(elapsed -> {
+                running.incrementAndGet();
+                try {
+                    Thread.sleep(1);
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                parallelUpdates.incrementAndGet();
+                running.decrementAndGet();
+            });
+        }
+        scene.addMainThread(elapsed -> {
+            overlapped[0] |= running.get() != 0;
+            doneBefore[0] = parallelUpdates.get();
+        });
+
+        scene.update(0.1f);
+
+        assertThat(overlapped[0], is(false));
+        assertThat(doneBefore[0], is(64));
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.tile;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class ChunkTableTest {
+
+    @Test
+    public void evictionOrderTest() {
+        final ChunkTable table = new ChunkTable();
+        final TileChunk[] chunks = new TileChunk[4];
+        for (int key = 0; key < chunks.length; key++) {
+            chunks[key] = new TileChunk(1);
+            table.add(key, chunks[key]);
+        }
+        table.find(0);
+        table.setEdited(table.find(1));
+
+        assertThat(table.evictEldest(), is(true));
+        assertThat(table.find(2), is(ChunkTable.NONE));
+        assertThat(table.evictEldest(), is(true));
+        assertThat(table.find(3), is(ChunkTable.NONE));
+        assertThat(table.evictEldest(), is(true));
+        assertThat(table.find(0), is(ChunkTable.NONE));
+        assertThat(table.evictEldest(), is(false));
+        assertThat(table.get(table.find(1)), is(sameInstance(chunks[1])));
+        assertThat(table.size(), is(1));
+    }
+
+    @Test
+    public void randomTest() {
+        final Random random = new Random(42);
+        final ChunkTable table = new ChunkTable();
+        // access ordered like the table, so the eldest entries match
+        final Map<Long, TileChunk> expected = new LinkedHashMap<>(16, 0.75f, true);
+        for (int step = 0; step < 100_000; step++) {
+            final long key = (long) random.nextInt(64) << 32 | random.nextInt(64);
+            final int entry = table.find(key);
+            final TileChunk chunk = expected.get(key);
+            if (chunk == null) {
+                assertThat(entry, is(ChunkTable.NONE));
+                final TileChunk added = new TileChunk(1);
+                table.add(key, added);
+                expected.put(key, added);
+            } else {
+                assertThat(table.get(entry), is(sameInstance(chunk)));
+            }
+            if (expected.size() > 500) {
+                final Long eldest = expected.keySet().iterator().next();
+                assertThat(table.evictEldest(), is(true));
+                expected.remove(eldest);
+                assertThat(table.find(eldest), is(ChunkTable.NONE));
+            }
+            assertThat(table.size(), is(expected.size()));
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Lanterna Game.
+ *
+ * Lanterna Game is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Lanterna Game is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Lanterna Game. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+
+package com.googlecode.lanterna.game.tile;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.googlecode.lanterna.TerminalPosition;
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.TextCharacter;
+import com.googlecode.lanterna.game.image.PackedTextImage;
+import com.googlecode.lanterna.game.image.TransparentTextImage;
+import com.googlecode.lanterna.game.scene.Camera;
+
+/**
+ * @author Klaus Hauschild
+ * @since 3.0.1
+ */
+public class TileMapTest {
+
+    @Test
+    public void renderTest() {
+        final PackedTextImage sheet = new PackedTextImage(new TerminalSize(4, 2));
+        sheet.newTextGraphics().putString(0, 0, "abcd").putString(0, 1, "efgh");
+        final TileAtlas atlas = TileAtlas.slice(sheet, new TerminalSize(2, 2));
+        assertThat(atlas.size(), is(2));
+
+        final TileMap map = new TileMap(atlas, 100, 100);
+        map.setTile(50, 50, 0);
+        map.setTile(51, 50, 1);
+        assertThat(map.getTile(51, 50), is(1));
+        assertThat(map.getTile(0, 0), is(TileMap.NO_TILE));
+
+        final PackedTextImage screen = new PackedTextImage(new TerminalSize(3, 2));
+        final Camera camera = new Camera().setPosition(new TerminalPosition(101, 100));
+        map.render(screen.newTextGraphics(), camera);
+        assertThat(screen.toString(), is("bcd\nfgh\n"));
+    }
+
+    @Test
+    public void loaderTest() {
+        final TileAtlas atlas = new TileAtlas(new TerminalSize(1, 1));
+        final TransparentTextImage tile = new TransparentTextImage(new TerminalSize(1, 1));
+        tile.setAll(new TextCharacter('x'));
+        final int id = atlas.add(tile);
+        final AtomicInteger loads = new AtomicInteger();
+        final TileMap map = new TileMap(atlas, 10_000, 10_000, 4, (chunkColumn, chunkRow) -> {
+            loads.incrementAndGet();
+            final TileChunk chunk = new TileChunk(4);
+            chunk.setTile(0, 0, id);
+            return chunk;
+        }, 8);
+
+        final PackedTextImage screen = new PackedTextImage(new TerminalSize(8, 4));
+        final Camera camera = new Camera();
+        for (int step = 0; step < 100; step++) {
+            camera.moveBy(40, 40);
+            map.render(screen.newTextGraphics(), camera);
+        }
+        assertThat(loads.get(), is(200));
+        assertThat(map.getLoadedChunks(), is(8));
+        assertThat(screen.getCharacterAt(0, 0).getCharacter(), is('x'));
+    }
+
+    @Test
+    public void editedChunkTest() {
+        final TileAtlas atlas = new TileAtlas(new TerminalSize(1, 1));
+        final AtomicInteger loads = new AtomicInteger();
+        final TileMap map = new TileMap(atlas, 1000, 1, 4, (chunkColumn, chunkRow) -> {
+            loads.incrementAndGet();
+            return new TileChunk(4);
+        }, 2);
+
+        map.setTile(0, 0, 7);
+        for (int column = 4; column < 1000; column += 4) {
+            assertThat(map.getTile(column, 0), is(TileMap.NO_TILE));
+        }
+        assertThat(map.getLoadedChunks(), is(2));
+        assertThat(map.getTile(0, 0), is(7));
+        assertThat(loads.get(), is(250));
+
+        // an edited chunk stays loaded on top of the configured number
+        map.setTile(996, 0, 8);
+        map.getTile(4, 0);
+        map.getTile(8, 0);
+        assertThat(map.getLoadedChunks(), is(3));
+        assertThat(map.getTile(996, 0), is(8));
+    }
+
+}